@@ -5,6 +5,7 @@ import com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital.*;
 import com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog.*;
 import com.uaemex.td.dataencodingvisualizer.logic.analog_to_analog.*;
 import com.uaemex.td.dataencodingvisualizer.logic.analog_to_digital.*;
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
 import com.uaemex.td.dataencodingvisualizer.model.SignalData;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
@@ -73,6 +74,12 @@ public class MainController {
     @FXML private VBox samplingRateBox;
     @FXML private VBox bitsPerSampleBox;
 
+    /**
+     * Número máximo de puntos que se envían al LineChart.
+     * Entradas que exceden la longitud recomendada se diezman a este tamaño.
+     */
+    private static final int MAX_PLOT_POINTS = 4000;
+
     /**
      * Mapa que almacena los generadores organizados por categoría.
      * Key: Nombre de la categoría
@@ -153,7 +160,7 @@ public class MainController {
 
         generatorsByCategory = new LinkedHashMap<>();
 
-        // Categoría 1: Digital a Digital - 8 técnicas
+        // Categoría 1: Digital a Digital - 11 técnicas
         List<IGenerator> digitalToDigital = new ArrayList<>();
         digitalToDigital.add(new NRZ_L_Generator());
         digitalToDigital.add(new NRZ_I_Generator());
@@ -163,17 +170,28 @@ public class MainController {
         digitalToDigital.add(new PseudoternaryGenerator());
         digitalToDigital.add(new B8ZSGenerator());
         digitalToDigital.add(new HDB3Generator());
+        digitalToDigital.add(new MLT3Generator());
+        digitalToDigital.add(new Code2B1QGenerator());
+        digitalToDigital.add(new PAM4Generator());
         generatorsByCategory.put("Digital → Digital (Codificación de Línea)", digitalToDigital);
-        System.out.println("  - Cargadas 8 técnicas Digital → Digital");
+        System.out.println("  - Cargadas 11 técnicas Digital → Digital");
 
-        // Categoría 2: Digital a Analógico - 4 técnicas
+        // Categoría 2: Digital a Analógico - 12 técnicas
         List<IGenerator> digitalToAnalog = new ArrayList<>();
         digitalToAnalog.add(new ASKGenerator());
         digitalToAnalog.add(new FSKGenerator());
         digitalToAnalog.add(new PSKGenerator());
+        digitalToAnalog.add(new PSKGenerator(4));
+        digitalToAnalog.add(new PSKGenerator(8));
+        digitalToAnalog.add(new DPSKGenerator());
         digitalToAnalog.add(new QAMGenerator());
+        digitalToAnalog.add(new QAMGenerator(16));
+        digitalToAnalog.add(new QAMGenerator(64));
+        digitalToAnalog.add(new QAMGenerator(256));
+        digitalToAnalog.add(new MSKGenerator());
+        digitalToAnalog.add(new GMSKGenerator());
         generatorsByCategory.put("Digital → Analógico (Modulación)", digitalToAnalog);
-        System.out.println("  - Cargadas 4 técnicas Digital → Analógico");
+        System.out.println("  - Cargadas 12 técnicas Digital → Analógico");
 
         // Categoría 3: Analógico a Analógico - 3 técnicas
         List<IGenerator> analogToAnalog = new ArrayList<>();
@@ -541,7 +559,17 @@ public class MainController {
                 params.put("customFunction", input);
             }
 
-            List<SignalData> signalData = currentGenerator.generate(input, params);
+            List<SignalData> signalData;
+            if (requiresDigitalInput(category) && currentGenerator.isLargePayload(input.length())) {
+                // Modo de carga grande: generar en flujo y graficar solo la envolvente
+                System.out.println("Modo de carga grande: " + input.length() + " bits (recomendado: "
+                        + currentGenerator.getMaximumInputLength() + "), vista diezmada a "
+                        + MAX_PLOT_POINTS + " puntos");
+                signalData = currentGenerator.generateDecimated(
+                        BitSequence.fromString(input), params, MAX_PLOT_POINTS);
+            } else {
+                signalData = currentGenerator.generate(input, params);
+            }
 
             if (signalData == null || signalData.isEmpty()) {
                 System.err.println("ERROR: No se generaron datos de señal");
@@ -595,7 +623,7 @@ public class MainController {
      * @return true si es válida
      */
     private boolean isValidDigitalInput(String input) {
-        return input != null && !input.isEmpty() && input.matches("[01]+");
+        return BitSequence.isBinary(input);
     }
 
     /**
@@ -1,6 +1,9 @@
 package com.uaemex.td.dataencodingvisualizer.logic;
 
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
 import com.uaemex.td.dataencodingvisualizer.model.SignalData;
+import com.uaemex.td.dataencodingvisualizer.model.SignalDecimator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +44,9 @@ public interface IGenerator {
      *               - "quantizationLevels": Integer - Niveles de cuantización
      *               - "modulationIndex": Double - Índice de modulación
      *               - "frequencyDeviation": Double - Desviación de frecuencia
+     *               - "samplesPerBit": Integer - Muestras por bit (técnicas digitales)
+     *               - "samples": Integer - Número de muestras (Analógico → Analógico)
+     *               - "duration": Double - Duración de la señal en segundos (Analógico → Analógico)
      *               - Otros parámetros específicos de cada técnica
      *
      * @return Lista de objetos SignalData que representan los puntos de la señal.
@@ -53,6 +59,84 @@ public interface IGenerator {
      */
     List<SignalData> generate(String input, Map<String, Object> params);
 
+    /**
+     * Genera la señal a partir de bits empaquetados
+     *
+     * Las técnicas digitales sobrescriben este metodo para trabajar directamente
+     * sobre la secuencia empaquetada; en ellas generate(String, Map) solo valida
+     * y convierte la cadena. Para crear la secuencia desde otras fuentes use
+     * BitSequence.of(long[], int), BitSequence.fromByteBuffer(ByteBuffer) o
+     * BitSequence.fromBitSet(BitSet, int).
+     *
+     * @param bits Secuencia de bits a codificar/modular
+     * @param params Mapa de parámetros adicionales (ver generate(String, Map))
+     * @return Lista de puntos de la señal
+     */
+    default List<SignalData> generate(BitSequence bits, Map<String, Object> params) {
+        return generate(bits.toString(), params);
+    }
+
+    /**
+     * Genera una vista diezmada de la señal para cargas útiles grandes
+     *
+     * Modo de carga grande: la entrada puede tener millones de bits. La señal
+     * se reduce a lo sumo maxPoints puntos (mínimo y máximo por bloque) para
+     * que la gráfica siga siendo manejable. Las técnicas digitales sobrescriben
+     * este metodo para generar en flujo sin almacenar la señal completa; la
+     * implementación por defecto genera la lista completa y luego la reduce.
+     *
+     * @param bits Secuencia de bits a codificar/modular
+     * @param params Mapa de parámetros adicionales (ver generate(String, Map))
+     * @param maxPoints Número máximo de puntos a devolver
+     * @return Envolvente min/max de la señal en orden temporal
+     */
+    default List<SignalData> generateDecimated(BitSequence bits, Map<String, Object> params, int maxPoints) {
+        List<SignalData> data = generate(bits, params);
+        SignalDecimator decimator = new SignalDecimator(data.size(), maxPoints);
+        for (SignalData point : data) {
+            decimator.accept(point.getX(), point.getY());
+        }
+        return decimator.toSignalData();
+    }
+
+    /**
+     * Genera solo la porción de la señal comprendida entre t0 y t1
+     *
+     * Permite hacer zoom o desplazarse sobre señales muy largas. Las técnicas
+     * digitales lo sobrescriben para calcular la ventana directamente (técnicas
+     * sin estado) o reanudando desde checkpoints de estado (técnicas con
+     * estado), con costo proporcional a la ventana y no a la señal completa.
+     * La implementación por defecto genera la señal completa y la recorta.
+     *
+     * @param input Cadena de entrada (ver generate(String, Map))
+     * @param params Mapa de parámetros adicionales
+     * @param t0 Inicio de la ventana (mismas unidades que x)
+     * @param t1 Fin de la ventana
+     * @return Puntos de la señal dentro de la ventana, en orden temporal
+     */
+    default List<SignalData> generateWindow(String input, Map<String, Object> params, double t0, double t1) {
+        List<SignalData> window = new ArrayList<>();
+        for (SignalData point : generate(input, params)) {
+            if (point.getX() >= t0 && point.getX() <= t1) {
+                window.add(point);
+            }
+        }
+        return window;
+    }
+
+    /**
+     * Genera la ventana [t0, t1] de la señal a partir de bits empaquetados
+     *
+     * @param bits Secuencia de bits a codificar/modular
+     * @param params Mapa de parámetros adicionales
+     * @param t0 Inicio de la ventana
+     * @param t1 Fin de la ventana
+     * @return Puntos de la señal dentro de la ventana
+     */
+    default List<SignalData> generateWindow(BitSequence bits, Map<String, Object> params, double t0, double t1) {
+        return generateWindow(bits.toString(), params, t0, t1);
+    }
+
     /**
      * Retorna el nombre completo de la técnica de codificación
      *
@@ -116,12 +200,26 @@ public interface IGenerator {
     /**
      * Retorna el número máximo de bits/muestras recomendado para visualización
      *
+     * Es solo una recomendación de visualización: entradas más largas se
+     * aceptan y se dibujan con generateDecimated (modo de carga grande).
+     *
      * @return Número máximo de bits recomendado (por defecto 32)
      */
     default int getMaximumInputLength() {
         return 32;
     }
 
+    /**
+     * Indica si una entrada excede la longitud recomendada para visualización
+     * y debe dibujarse en modo de carga grande
+     *
+     * @param length Longitud de la entrada
+     * @return true si length supera getMaximumInputLength()
+     */
+    default boolean isLargePayload(int length) {
+        return getMaximumInputLength() > 0 && length > getMaximumInputLength();
+    }
+
     /**
      * Valida si la entrada proporcionada es válida para esta técnica
      *
@@ -133,14 +231,13 @@ public interface IGenerator {
             return false;
         }
 
-        // Validar longitud
-        if (input.length() < getMinimumInputLength() ||
-                input.length() > getMaximumInputLength()) {
+        // Validar longitud mínima (la máxima es solo una recomendación)
+        if (input.length() < getMinimumInputLength()) {
             return false;
         }
 
         // Validar formato binario si es requerido
-        if (requiresBinaryInput() && !input.matches("[01]+")) {
+        if (requiresBinaryInput() && !BitSequence.isBinary(input)) {
             return false;
         }
 
@@ -2,6 +2,7 @@ package com.uaemex.td.dataencodingvisualizer.logic.analog_to_analog;
 
 import com.uaemex.td.dataencodingvisualizer.model.SignalData;
 import com.uaemex.td.dataencodingvisualizer.util.FunctionEvaluator;
+import com.uaemex.td.dataencodingvisualizer.util.NumericallyControlledOscillator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -78,7 +79,8 @@ public class AMGenerator extends AnalogToAnalogGenerator {
             System.err.println("ADVERTENCIA: Sobremodulación (na > 1), puede causar distorsión");
         }
 
-        double duration = 4.0;
+        applyResolutionParameters(params);
+        double duration = signalDuration;
         String customFunction = null;
 
         // Verificar si hay función personalizada
@@ -89,8 +91,9 @@ public class AMGenerator extends AnalogToAnalogGenerator {
         }
 
         // Generar señal AM: s(t) = [1 + na * x(t)] * cos(2π * fc * t)
-        for (int i = 0; i < SAMPLES; i++) {
-            double t = i * duration / SAMPLES;
+        NumericallyControlledOscillator oscillator = createCarrier();
+        for (int i = 0; i < sampleCount; i++) {
+            double t = i * duration / sampleCount;
 
             // x(t) - Señal mensaje (normalizada entre -1 y 1)
             double messageSignal;
@@ -113,7 +116,8 @@ public class AMGenerator extends AnalogToAnalogGenerator {
             }
 
             // cos(2π * fc * t) - Portadora
-            double carrier = Math.cos(getAngularFrequency(carrierFrequency) * t);
+            double carrier = oscillator.cos();
+            oscillator.step();
 
             // s(t) = Ac * [1 + na * x(t)] * cos(2π * fc * t)
             double envelope = 1.0 + (modulationIndex * messageSignal);
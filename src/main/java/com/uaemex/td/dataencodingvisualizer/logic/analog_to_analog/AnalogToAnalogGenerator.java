@@ -2,6 +2,7 @@ package com.uaemex.td.dataencodingvisualizer.logic.analog_to_analog;
 
 import com.uaemex.td.dataencodingvisualizer.logic.IGenerator;
 import com.uaemex.td.dataencodingvisualizer.model.SignalData;
+import com.uaemex.td.dataencodingvisualizer.util.NumericallyControlledOscillator;
 import java.util.Map;
 
 /**
@@ -32,8 +33,17 @@ public abstract class AnalogToAnalogGenerator implements IGenerator {
     /** Frecuencia de la señal mensaje (moduladora) en Hz */
     protected double messageFrequency;
 
-    /** Número de muestras para generar la señal */
-    protected static final int SAMPLES = 500;
+    /** Número de muestras por defecto para generar la señal */
+    protected static final int DEFAULT_SAMPLES = 500;
+
+    /** Duración por defecto de la señal generada en segundos */
+    protected static final double DEFAULT_DURATION = 4.0;
+
+    /** Número de muestras de la señal (parámetro "samples") */
+    protected int sampleCount;
+
+    /** Duración de la señal en segundos (parámetro "duration") */
+    protected double signalDuration;
 
     /** Amplitud de la señal portadora */
     protected double carrierAmplitude;
@@ -50,6 +60,28 @@ public abstract class AnalogToAnalogGenerator implements IGenerator {
         this.messageFrequency = 1.0;     // 1 Hz mensaje
         this.carrierAmplitude = 1.0;     // Amplitud normalizada
         this.messageAmplitude = 1.0;     // Amplitud normalizada
+        this.sampleCount = DEFAULT_SAMPLES;
+        this.signalDuration = DEFAULT_DURATION;
+    }
+
+    /**
+     * Lee los parámetros de resolución del mapa: "samples" y "duration"
+     * Las claves ausentes vuelven a su valor por defecto.
+     *
+     * @param params Mapa de parámetros (puede ser null)
+     * @throws IllegalArgumentException si algún valor no es positivo
+     */
+    protected void applyResolutionParameters(Map<String, Object> params) {
+        if (params != null && params.containsKey("samples")) {
+            setSampleCount(((Number) params.get("samples")).intValue());
+        } else {
+            sampleCount = DEFAULT_SAMPLES;
+        }
+        if (params != null && params.containsKey("duration")) {
+            setSignalDuration(((Number) params.get("duration")).doubleValue());
+        } else {
+            signalDuration = DEFAULT_DURATION;
+        }
     }
 
     /**
@@ -86,6 +118,17 @@ public abstract class AnalogToAnalogGenerator implements IGenerator {
         return 2 * Math.PI * frequency;
     }
 
+    /**
+     * Crea el oscilador de la portadora para la resolución actual
+     * La muestra i (t = i * duración / muestras) corresponde a i pasos del
+     * oscilador, así que la fase es continua y no deriva en señales largas.
+     *
+     * @return Oscilador a carrierFrequency con fase inicial 0
+     */
+    protected NumericallyControlledOscillator createCarrier() {
+        return new NumericallyControlledOscillator(carrierFrequency, sampleCount / signalDuration);
+    }
+
     /**
      * Genera una señal mensaje de prueba (sinusoidal simple)
      *
@@ -266,7 +309,9 @@ public abstract class AnalogToAnalogGenerator implements IGenerator {
                 "carrierFrequency", "Frecuencia de la portadora (Hz)",
                 "messageFrequency", "Frecuencia de la señal mensaje (Hz)",
                 "carrierAmplitude", "Amplitud de la portadora",
-                "messageAmplitude", "Amplitud de la señal mensaje"
+                "messageAmplitude", "Amplitud de la señal mensaje",
+                "samples", "Número de muestras (resolución)",
+                "duration", "Duración de la señal (s)"
         );
     }
 
@@ -299,17 +344,41 @@ public abstract class AnalogToAnalogGenerator implements IGenerator {
      *
      * @return Número de muestras
      */
-    protected int getSampleCount() {
-        return SAMPLES;
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Establece el número de muestras para la generación
+     *
+     * @param sampleCount Número de muestras (debe ser > 0)
+     */
+    public void setSampleCount(int sampleCount) {
+        if (sampleCount <= 0) {
+            throw new IllegalArgumentException("El número de muestras debe ser positivo");
+        }
+        this.sampleCount = sampleCount;
     }
 
     /**
-     * Calcula la duración total de la señal en segundos
+     * Obtiene la duración total de la señal en segundos
      *
      * @return Duración en segundos
      */
-    protected double getSignalDuration() {
-        return 2.0; // 2 segundos por defecto
+    public double getSignalDuration() {
+        return signalDuration;
+    }
+
+    /**
+     * Establece la duración total de la señal
+     *
+     * @param signalDuration Duración en segundos (debe ser > 0)
+     */
+    public void setSignalDuration(double signalDuration) {
+        if (signalDuration <= 0) {
+            throw new IllegalArgumentException("La duración debe ser positiva");
+        }
+        this.signalDuration = signalDuration;
     }
 
     /**
@@ -318,7 +387,7 @@ public abstract class AnalogToAnalogGenerator implements IGenerator {
      * @return Período en segundos
      */
     protected double getSamplingPeriod() {
-        return getSignalDuration() / SAMPLES;
+        return signalDuration / sampleCount;
     }
 
     /**
@@ -331,7 +400,7 @@ public abstract class AnalogToAnalogGenerator implements IGenerator {
                 "Frecuencia Portadora", carrierFrequency + " Hz",
                 "Frecuencia Mensaje", messageFrequency + " Hz",
                 "Relación fc/fm", String.format("%.2f", carrierFrequency / messageFrequency),
-                "Muestras", SAMPLES,
+                "Muestras", sampleCount,
                 "Duración", getSignalDuration() + " s"
         );
     }
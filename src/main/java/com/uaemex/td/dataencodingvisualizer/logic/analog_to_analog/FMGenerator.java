@@ -2,6 +2,7 @@ package com.uaemex.td.dataencodingvisualizer.logic.analog_to_analog;
 
 import com.uaemex.td.dataencodingvisualizer.model.SignalData;
 import com.uaemex.td.dataencodingvisualizer.util.FunctionEvaluator;
+import com.uaemex.td.dataencodingvisualizer.util.NumericallyControlledOscillator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -18,8 +19,15 @@ import java.util.Map;
  * @author UAEMEX - Transmisión de Datos
  */
 public class FMGenerator extends AnalogToAnalogGenerator {
+    private static final int PHASE_CHECKPOINT_INTERVAL = 4096; // Muestras entre checkpoints de fase
+
     private double frequencyDeviation;
 
+    /** Fase del oscilador antes de cada muestra k * PHASE_CHECKPOINT_INTERVAL */
+    private long[] phaseCheckpoints;
+    /** Parámetros con los que se calcularon los checkpoints de fase */
+    private String checkpointKey;
+
     public FMGenerator() {
         super();
         this.carrierFrequency = 10.0;
@@ -30,7 +38,50 @@ public class FMGenerator extends AnalogToAnalogGenerator {
     @Override
     public List<SignalData> generate(String input, Map<String, Object> params) {
         List<SignalData> data = new ArrayList<>();
+        String customFunction = applyParameters(params);
+
+        if (customFunction != null) {
+            System.out.println("Usando función personalizada para FM: " + customFunction);
+        }
+
+        render(0, sampleCount, 0L, customFunction,
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, data);
+        return data;
+    }
+
+    /**
+     * Genera solo las muestras con t0 <= t <= t1
+     *
+     * La fase de FM es la integral de la frecuencia instantánea, por lo que
+     * depende de todas las muestras anteriores. En la primera llamada se
+     * recorre la señal una vez guardando la fase cada
+     * PHASE_CHECKPOINT_INTERVAL muestras; las ventanas siguientes reanudan
+     * desde el checkpoint más cercano mientras no cambien los parámetros.
+     */
+    @Override
+    public List<SignalData> generateWindow(String input, Map<String, Object> params, double t0, double t1) {
+        List<SignalData> data = new ArrayList<>();
+        String customFunction = applyParameters(params);
+
+        double dt = signalDuration / sampleCount;
+        int first = (int) Math.max(0, Math.floor(t0 / dt));
+        int last = (int) Math.min(sampleCount - 1, Math.ceil(t1 / dt));
+        if (first > last) {
+            return data;
+        }
+
+        long[] phases = getPhaseCheckpoints(customFunction);
+        int k = first / PHASE_CHECKPOINT_INTERVAL;
+        render(k * PHASE_CHECKPOINT_INTERVAL, last + 1, phases[k], customFunction, t0, t1, data);
+        return data;
+    }
 
+    /**
+     * Lee los parámetros de FM del mapa
+     *
+     * @return Función personalizada del mensaje, o null si no hay
+     */
+    private String applyParameters(Map<String, Object> params) {
         if (params != null) {
             if (params.containsKey("carrierFrequency")) {
                 carrierFrequency = (Double) params.get("carrierFrequency");
@@ -46,39 +97,72 @@ public class FMGenerator extends AnalogToAnalogGenerator {
             }
         }
 
-        double duration = 4.0;
-        double phase = 0.0;
-        String customFunction = null;
+        applyResolutionParameters(params);
 
         if (params != null && params.containsKey("customFunction")) {
-            customFunction = (String) params.get("customFunction");
-            System.out.println("Usando función personalizada para FM: " + customFunction);
+            return (String) params.get("customFunction");
         }
+        return null;
+    }
 
-        for (int i = 0; i < SAMPLES; i++) {
-            double t = i * duration / SAMPLES;
-            double dt = duration / SAMPLES;
-
-            double message;
-            if (customFunction != null && !customFunction.trim().isEmpty()) {
-                try {
-                    message = FunctionEvaluator.evaluate(customFunction, t);
-                } catch (Exception e) {
-                    System.err.println("Error evaluando función: " + e.getMessage());
-                    message = Math.sin(getAngularFrequency(messageFrequency) * t);
-                }
-            } else {
-                message = Math.sin(getAngularFrequency(messageFrequency) * t);
-            }
+    /**
+     * Integra la fase desde la muestra from (con fase inicial phase) hasta to
+     * y agrega a data las muestras cuyo tiempo está en [t0, t1]
+     * El oscilador acumula la fase en un entero de 64 bits, así que la
+     * integración es exacta y no deriva en señales largas.
+     */
+    private void render(int from, int to, long phase, String customFunction,
+                        double t0, double t1, List<SignalData> data) {
+        double duration = signalDuration;
+        NumericallyControlledOscillator oscillator = createCarrier();
+        oscillator.setPhaseWord(phase);
 
-            double instantFreq = carrierFrequency + frequencyDeviation * message;
-            phase += getAngularFrequency(instantFreq) * dt;
-            double y = carrierAmplitude * Math.sin(phase);
+        for (int i = from; i < to; i++) {
+            double t = i * duration / sampleCount;
+            // f(t) = fc + Δf * m(t)
+            oscillator.step(frequencyDeviation * message(t, customFunction));
 
-            data.add(new SignalData(t, y));
+            if (t >= t0 && t <= t1) {
+                double y = carrierAmplitude * oscillator.sin();
+                data.add(new SignalData(t, y));
+            }
         }
+    }
 
-        return data;
+    /**
+     * Señal mensaje m(t): la función personalizada o sin(2π * fm * t)
+     */
+    private double message(double t, String customFunction) {
+        if (customFunction != null && !customFunction.trim().isEmpty()) {
+            try {
+                return FunctionEvaluator.evaluate(customFunction, t);
+            } catch (Exception e) {
+                System.err.println("Error evaluando función: " + e.getMessage());
+            }
+        }
+        return Math.sin(getAngularFrequency(messageFrequency) * t);
+    }
+
+    /**
+     * Obtiene los checkpoints de fase, recalculándolos si cambiaron los parámetros
+     */
+    private long[] getPhaseCheckpoints(String customFunction) {
+        String key = carrierFrequency + "|" + frequencyDeviation + "|" + messageFrequency + "|"
+                + sampleCount + "|" + signalDuration + "|" + customFunction;
+        if (phaseCheckpoints == null || !key.equals(checkpointKey)) {
+            double duration = signalDuration;
+            long[] phases = new long[(sampleCount - 1) / PHASE_CHECKPOINT_INTERVAL + 1];
+            NumericallyControlledOscillator oscillator = createCarrier();
+            for (int i = 0; i < sampleCount; i++) {
+                if (i % PHASE_CHECKPOINT_INTERVAL == 0) {
+                    phases[i / PHASE_CHECKPOINT_INTERVAL] = oscillator.getPhaseWord();
+                }
+                oscillator.step(frequencyDeviation * message(i * duration / sampleCount, customFunction));
+            }
+            phaseCheckpoints = phases;
+            checkpointKey = key;
+        }
+        return phaseCheckpoints;
     }
 
     @Override
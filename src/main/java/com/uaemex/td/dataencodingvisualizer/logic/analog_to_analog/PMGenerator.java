@@ -2,6 +2,7 @@ package com.uaemex.td.dataencodingvisualizer.logic.analog_to_analog;
 
 import com.uaemex.td.dataencodingvisualizer.model.SignalData;
 import com.uaemex.td.dataencodingvisualizer.util.FunctionEvaluator;
+import com.uaemex.td.dataencodingvisualizer.util.NumericallyControlledOscillator;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -45,7 +46,8 @@ public class PMGenerator extends AnalogToAnalogGenerator {
             }
         }
 
-        double duration = 4.0;
+        applyResolutionParameters(params);
+        double duration = signalDuration;
         String customFunction = null;
 
         if (params != null && params.containsKey("customFunction")) {
@@ -53,8 +55,9 @@ public class PMGenerator extends AnalogToAnalogGenerator {
             System.out.println("Usando función personalizada para PM: " + customFunction);
         }
 
-        for (int i = 0; i < SAMPLES; i++) {
-            double t = i * duration / SAMPLES;
+        NumericallyControlledOscillator oscillator = createCarrier();
+        for (int i = 0; i < sampleCount; i++) {
+            double t = i * duration / sampleCount;
 
             double message;
             if (customFunction != null && !customFunction.trim().isEmpty()) {
@@ -68,9 +71,10 @@ public class PMGenerator extends AnalogToAnalogGenerator {
                 message = Math.sin(getAngularFrequency(messageFrequency) * t);
             }
 
-            double carrierPhase = getAngularFrequency(carrierFrequency) * t;
+            // s(t) = A * sin(ωc*t + kp*m(t)): la portadora la da el oscilador
             double modulatedPhase = phaseDeviation * message;
-            double y = carrierAmplitude * Math.sin(carrierPhase + modulatedPhase);
+            double y = carrierAmplitude * oscillator.sin(modulatedPhase);
+            oscillator.step();
 
             data.add(new SignalData(t, y));
         }
@@ -1,10 +1,5 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
 /**
  * Amplitude Shift Keying (ASK)
  * Modula la amplitud de la portadora
@@ -16,48 +11,24 @@ import java.util.Map;
 public class ASKGenerator extends DigitalToAnalogGenerator {
 
     @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
-
-        // Parámetros
-        if (params != null) {
-            if (params.containsKey("carrierFrequency")) {
-                carrierFrequency = (Double) params.get("carrierFrequency");
-            }
-            if (params.containsKey("amplitude")) {
-                amplitude = (Double) params.get("amplitude");
-            }
-            if (params.containsKey("bitDuration")) {
-                bitDuration = (Double) params.get("bitDuration");
-            }
-        }
-
-        double time = 0;
-        double omega = getAngularFrequency(carrierFrequency);
-
-        // Calcular ciclos enteros por bit para visualizacion limpia
-        int cyclesPerBit = Math.max(1, (int) Math.round(carrierFrequency * bitDuration));
-        double adjustedOmega = 2 * Math.PI * cyclesPerBit / bitDuration;
+    protected double symbolSample(int symbol, double localTime) {
+        // Ciclos enteros por bit para visualizacion limpia
+        double adjustedOmega = getAdjustedOmega();
 
-        for (char bit : input.toCharArray()) {
-            double bitAmplitude = (bit == '1') ? amplitude : amplitude * 0.2; // '0' tiene amplitud baja
-
-            for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-                double globalTime = time + (i / (double) SAMPLES_PER_BIT) * bitDuration;
-                double localTime = (i / (double) SAMPLES_PER_BIT) * bitDuration;
-                // Cada bit empieza en fase 0 para visualizacion clara
-                double y = bitAmplitude * Math.sin(adjustedOmega * localTime);
-                data.add(new SignalData(globalTime, y));
-            }
-
-            time += bitDuration;
-        }
+        double bitAmplitude = (symbol == 1) ? amplitude : amplitude * 0.2; // '0' tiene amplitud baja
+        // Cada bit empieza en fase 0 para visualizacion clara
+        return bitAmplitude * Math.sin(adjustedOmega * localTime);
+    }
 
-        return data;
+    /**
+     * BER coherente de los niveles 1 y 0.2: Q(√((a1 - a0)² / (a1² + a0²) · Eb/N0))
+     */
+    @Override
+    public double getTheoreticalBER(double ebN0Db) {
+        double ebN0 = Math.pow(10, ebN0Db / 10.0);
+        double high = 1.0;
+        double low = 0.2;
+        return qFunction(Math.sqrt((high - low) * (high - low) / (high * high + low * low) * ebN0));
     }
 
     @Override
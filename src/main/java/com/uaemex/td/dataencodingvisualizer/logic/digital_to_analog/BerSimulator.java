@@ -0,0 +1,360 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import com.uaemex.td.dataencodingvisualizer.model.SignalData;
+import com.uaemex.td.dataencodingvisualizer.util.GaussianNoise;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Simulación Monte Carlo de la tasa de error de bit (BER)
+ *
+ * Pasa símbolos aleatorios por el modulador, un canal AWGN y el
+ * demodulador de la técnica (ver createDemodulator), y compara el
+ * resultado con la curva teórica (getTheoreticalBER).
+ *
+ * La simulación trabaja en el dominio del correlador: como el demodulador
+ * solo ve las correlaciones del símbolo con sus referencias, y estas son
+ * lineales, cada símbolo se simula como su proyección ideal (la plantilla
+ * proyectada) más un vector gaussiano con la covarianza que el ruido
+ * blanco produce en el correlador: σ² · G, donde G es la matriz de Gram
+ * de las referencias (se aplica con su factor de Cholesky). El resultado es
+ * estadísticamente idéntico a sumar ruido a cada muestra, pero cuesta
+ * O(referencias) por símbolo en lugar de O(muestras).
+ *
+ * Los símbolos se procesan en lotes de BATCH_SYMBOLS con su propia semilla
+ * (derivada de la semilla y el número de lote), repartidos entre los núcleos
+ * en rondas de BATCHES_PER_ROUND. Cada lote escribe su propio contador, así
+ * que no hay estado compartido, y el resultado es reproducible sin importar
+ * el número de núcleos. La simulación se detiene cuando el intervalo de
+ * confianza del 95% es suficientemente estrecho o se agota el máximo de bits.
+ */
+public final class BerSimulator {
+
+    /** Máximo de bits por punto por defecto */
+    public static final long DEFAULT_MAX_BITS = 1L << 30;
+
+    /** Semiancho relativo del intervalo de confianza por defecto */
+    public static final double DEFAULT_PRECISION = 0.1;
+
+    private static final int BATCH_SYMBOLS = 1 << 14;
+    private static final int BATCHES_PER_ROUND = 16;
+    private static final double Z_95 = 1.959963984540054;
+
+    private final DigitalToAnalogGenerator generator;
+    private final Demodulator demodulator;
+    private final int bitsPerSymbol;
+    private final double[][] means;     // [símbolo][referencia]: proyección ideal
+    private final double[][] cholesky;  // Factor triangular inferior de la matriz de Gram
+    private final double energyPerBit;  // Suma de y² por bit, promedio sobre los símbolos
+
+    private long maxBits = DEFAULT_MAX_BITS;
+    private double precision = DEFAULT_PRECISION;
+    private long seed;
+
+    /**
+     * Prepara la simulación para una técnica con los parámetros dados
+     *
+     * @param generator Modulador
+     * @param params Parámetros de modulación (puede ser null)
+     * @throws IllegalArgumentException si la técnica tiene memoria entre símbolos
+     *         o los parámetros piden conformación de pulsos
+     */
+    public BerSimulator(DigitalToAnalogGenerator generator, Map<String, Object> params) {
+        if (generator.hasMemory()) {
+            throw new IllegalArgumentException("La simulación de BER requiere símbolos independientes: "
+                    + generator.getName());
+        }
+        generator.applyParameters(params);
+        if (generator.isPulseShaped()) {
+            // Los pulsos se traslapan entre símbolos: el modelo de un correlador por símbolo no aplica
+            throw new IllegalArgumentException("La simulación de BER requiere símbolos rectangulares: "
+                    + "quite \"pulseShape\"");
+        }
+        this.generator = generator;
+        this.demodulator = generator.createDemodulator(bit -> { });
+        this.bitsPerSymbol = generator.getBitsPerSymbol();
+
+        double[][] waves = generator.getTemplates();
+        double[][] references = demodulator.getReferences();
+        int refs = references.length;
+
+        this.means = new double[waves.length][refs];
+        double energy = 0.0;
+        for (int symbol = 0; symbol < waves.length; symbol++) {
+            for (int r = 0; r < refs; r++) {
+                means[symbol][r] = dot(waves[symbol], references[r]);
+            }
+            energy += dot(waves[symbol], waves[symbol]);
+        }
+        this.energyPerBit = energy / waves.length / bitsPerSymbol;
+
+        double[][] gram = new double[refs][refs];
+        for (int r = 0; r < refs; r++) {
+            for (int c = 0; c <= r; c++) {
+                gram[r][c] = dot(references[r], references[c]);
+            }
+        }
+        this.cholesky = cholesky(gram);
+    }
+
+    /**
+     * Simula un punto de la curva
+     *
+     * @param ebN0Db Relación Eb/N0 en dB
+     * @return Resultado con el intervalo de confianza y el valor teórico
+     */
+    public Result simulate(double ebN0Db) {
+        double sigma = GaussianNoise.sigmaForEbN0(energyPerBit, ebN0Db);
+        long minErrors = (long) Math.ceil((Z_95 / precision) * (Z_95 / precision));
+        long bitsPerBatch = (long) BATCH_SYMBOLS * bitsPerSymbol;
+
+        long bits = 0;
+        long errors = 0;
+        long batch = 0;
+        while (errors < minErrors && bits < maxBits) {
+            long first = batch;
+            long[] batchErrors = new long[BATCHES_PER_ROUND];
+            IntStream.range(0, BATCHES_PER_ROUND).parallel()
+                    .forEach(j -> batchErrors[j] = runBatch(batchSeed(ebN0Db, first + j), sigma));
+
+            // Acumular en orden hasta cumplir el criterio (independiente del número de núcleos)
+            for (int j = 0; j < BATCHES_PER_ROUND && errors < minErrors && bits < maxBits; j++) {
+                errors += batchErrors[j];
+                bits += bitsPerBatch;
+                batch++;
+            }
+        }
+        return new Result(ebN0Db, bits, errors, generator.getTheoreticalBER(ebN0Db));
+    }
+
+    /**
+     * Simula una curva completa de Eb/N0
+     *
+     * @param fromDb Primer valor en dB
+     * @param toDb Último valor en dB (inclusivo)
+     * @param stepDb Paso en dB (debe ser > 0)
+     * @return Un resultado por punto
+     */
+    public List<Result> sweep(double fromDb, double toDb, double stepDb) {
+        if (stepDb <= 0) {
+            throw new IllegalArgumentException("El paso debe ser positivo");
+        }
+        List<Result> results = new ArrayList<>();
+        for (int k = 0; fromDb + k * stepDb <= toDb + 1e-9; k++) {
+            results.add(simulate(fromDb + k * stepDb));
+        }
+        return results;
+    }
+
+    /**
+     * Simula BATCH_SYMBOLS símbolos y cuenta los bits erróneos
+     */
+    private long runBatch(long batchSeed, double sigma) {
+        SplittableRandom random = new SplittableRandom(batchSeed);
+        GaussianNoise noise = new GaussianNoise(random.nextLong());
+        int refs = cholesky.length;
+        int symbolMask = means.length - 1;
+        double[] z = new double[refs];
+        double[] correlations = new double[refs];
+
+        long errors = 0;
+        long word = 0;
+        int available = 0;
+        for (int n = 0; n < BATCH_SYMBOLS; n++) {
+            // Símbolo aleatorio tomado de una palabra de 64 bits
+            if (available < bitsPerSymbol) {
+                word = random.nextLong();
+                available = 64;
+            }
+            int symbol = (int) word & symbolMask;
+            word >>>= bitsPerSymbol;
+            available -= bitsPerSymbol;
+
+            for (int r = 0; r < refs; r++) {
+                z[r] = noise.next();
+            }
+            double[] mean = means[symbol];
+            for (int r = 0; r < refs; r++) {
+                double[] row = cholesky[r];
+                double sum = 0.0;
+                for (int c = 0; c <= r; c++) {
+                    sum += row[c] * z[c];
+                }
+                correlations[r] = mean[r] + sigma * sum;
+            }
+            errors += Integer.bitCount(demodulator.decide(correlations) ^ symbol);
+        }
+        return errors;
+    }
+
+    /**
+     * Semilla de un lote: depende de la semilla, el punto y el número de lote
+     */
+    private long batchSeed(double ebN0Db, long batch) {
+        long z = seed ^ Double.doubleToLongBits(ebN0Db) * 0xBF58476D1CE4E5B9L;
+        z += (batch + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double dot(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Factor de Cholesky L (G = L·Lᵀ) de una matriz simétrica semidefinida
+     * positiva (solo se lee el triángulo inferior)
+     */
+    private static double[][] cholesky(double[][] gram) {
+        int n = gram.length;
+        double[][] lower = new double[n][n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c <= r; c++) {
+                double sum = gram[r][c];
+                for (int k = 0; k < c; k++) {
+                    sum -= lower[r][k] * lower[c][k];
+                }
+                if (r == c) {
+                    lower[r][r] = Math.sqrt(Math.max(0.0, sum));
+                } else {
+                    lower[r][c] = lower[c][c] > 0 ? sum / lower[c][c] : 0.0;
+                }
+            }
+        }
+        return lower;
+    }
+
+    /**
+     * Convierte resultados en una curva (Eb/N0 en dB, BER) para graficar
+     *
+     * @param results Resultados de sweep
+     * @param theoretical true para la curva teórica, false para la simulada
+     * @return Puntos de la curva
+     */
+    public static List<SignalData> toCurve(List<Result> results, boolean theoretical) {
+        List<SignalData> curve = new ArrayList<>(results.size());
+        for (Result result : results) {
+            curve.add(new SignalData(result.getEbN0Db(),
+                    theoretical ? result.getTheoreticalBer() : result.getBer()));
+        }
+        return curve;
+    }
+
+    // ==================== CONFIGURACIÓN ====================
+
+    /**
+     * @param maxBits Máximo de bits por punto (debe ser > 0)
+     * @throws IllegalArgumentException si no es positivo
+     */
+    public void setMaxBits(long maxBits) {
+        if (maxBits <= 0) {
+            throw new IllegalArgumentException("El máximo de bits debe ser positivo");
+        }
+        this.maxBits = maxBits;
+    }
+
+    /**
+     * @param precision Semiancho relativo del intervalo del 95% para detenerse (0 a 1)
+     * @throws IllegalArgumentException si está fuera de (0, 1]
+     */
+    public void setPrecision(double precision) {
+        if (!(precision > 0 && precision <= 1)) {
+            throw new IllegalArgumentException("La precisión debe estar en (0, 1]");
+        }
+        this.precision = precision;
+    }
+
+    /**
+     * @param seed Semilla: la misma semilla reproduce los mismos resultados
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return Energía por bit de la señal (suma de y² por bit)
+     */
+    public double getEnergyPerBit() {
+        return energyPerBit;
+    }
+
+    /**
+     * Resultado de un punto de la curva
+     */
+    public static final class Result {
+        private final double ebN0Db;
+        private final long bits;
+        private final long errors;
+        private final double theoreticalBer;
+
+        Result(double ebN0Db, long bits, long errors, double theoreticalBer) {
+            this.ebN0Db = ebN0Db;
+            this.bits = bits;
+            this.errors = errors;
+            this.theoreticalBer = theoreticalBer;
+        }
+
+        public double getEbN0Db() {
+            return ebN0Db;
+        }
+
+        public long getBits() {
+            return bits;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * @return BER medida (errores / bits)
+         */
+        public double getBer() {
+            return bits == 0 ? 0.0 : (double) errors / bits;
+        }
+
+        /**
+         * @return Límite inferior del intervalo de Wilson del 95%
+         */
+        public double getLowerBound() {
+            return wilson(-1);
+        }
+
+        /**
+         * @return Límite superior del intervalo de Wilson del 95%
+         */
+        public double getUpperBound() {
+            return wilson(1);
+        }
+
+        public double getTheoreticalBer() {
+            return theoreticalBer;
+        }
+
+        private double wilson(int sign) {
+            if (bits == 0) {
+                return sign < 0 ? 0.0 : 1.0;
+            }
+            double p = getBer();
+            double z2 = Z_95 * Z_95;
+            double denominator = 1.0 + z2 / bits;
+            double center = p + z2 / (2.0 * bits);
+            double half = Z_95 * Math.sqrt(p * (1 - p) / bits + z2 / (4.0 * bits * bits));
+            return Math.max(0.0, (center + sign * half) / denominator);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Eb/N0 = %.2f dB: BER = %.3e [%.3e, %.3e] (%d errores en %d bits), teórica = %.3e",
+                    ebN0Db, getBer(), getLowerBound(), getUpperBound(), errors, bits, theoreticalBer);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Demodulador coherente por proyección I/Q (ASK, PSK, QAM)
+ *
+ * Correlaciona cada símbolo con el coseno y el seno de la portadora
+ * (sincronizados con el modulador) y elige el punto de la constelación
+ * más cercano a la proyección (I, Q). Los puntos se expresan en las mismas
+ * unidades que las correlaciones: son la proyección de la forma de onda
+ * ideal de cada símbolo.
+ */
+public class CoherentDemodulator extends Demodulator {
+
+    private final double[] pointsI;
+    private final double[] pointsQ;
+
+    /**
+     * Constructor
+     *
+     * @param cosine Referencia en fase, cos(ωt), una muestra por muestra del símbolo
+     * @param sine Referencia en cuadratura, sin(ωt)
+     * @param pointsI pointsI[símbolo] = proyección ideal sobre cosine
+     * @param pointsQ pointsQ[símbolo] = proyección ideal sobre sine
+     * @param bitsPerSymbol Bits por símbolo (pointsI tiene 2^bitsPerSymbol puntos)
+     * @param output Destino de los bits recuperados
+     */
+    public CoherentDemodulator(double[] cosine, double[] sine, double[] pointsI, double[] pointsQ,
+                               int bitsPerSymbol, IntConsumer output) {
+        super(new double[][]{cosine, sine}, bitsPerSymbol, output);
+        if (pointsI.length != 1 << bitsPerSymbol || pointsQ.length != pointsI.length) {
+            throw new IllegalArgumentException("Se requieren 2^" + bitsPerSymbol + " puntos de constelación");
+        }
+        this.pointsI = pointsI.clone();
+        this.pointsQ = pointsQ.clone();
+    }
+
+    @Override
+    protected final int decide(double[] correlations) {
+        return slice(correlations[0], correlations[1]);
+    }
+
+    /**
+     * Elige el símbolo cuyo punto está más cerca de (inPhase, quadrature)
+     *
+     * @param inPhase Correlación con la referencia en fase
+     * @param quadrature Correlación con la referencia en cuadratura
+     * @return Símbolo decidido
+     */
+    protected int slice(double inPhase, double quadrature) {
+        int best = 0;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (int symbol = 0; symbol < pointsI.length; symbol++) {
+            double di = inPhase - pointsI[symbol];
+            double dq = quadrature - pointsQ[symbol];
+            double distance = di * di + dq * dq;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = symbol;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * @param symbol Valor del símbolo
+     * @return Proyección ideal del símbolo sobre la referencia en fase
+     */
+    public double getPointI(int symbol) {
+        return pointsI[symbol];
+    }
+
+    /**
+     * @param symbol Valor del símbolo
+     * @return Proyección ideal del símbolo sobre la referencia en cuadratura
+     */
+    public double getPointQ(int symbol) {
+        return pointsQ[symbol];
+    }
+}
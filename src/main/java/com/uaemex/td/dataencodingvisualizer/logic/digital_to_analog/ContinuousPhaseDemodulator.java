@@ -0,0 +1,79 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Demodulador coherente de MSK/GMSK con realimentación de decisiones
+ *
+ * Sigue el mismo estado que el modulador (ver ContinuousPhaseGenerator): el
+ * cuadrante θ y los L bits ya decididos. Para cada bit correlaciona la señal
+ * con las trayectorias que son posibles dado ese estado (el bit actual y
+ * los L siguientes, aún desconocidos) y se queda con el bit de la mejor.
+ *
+ * Una trayectoria en el cuadrante q es sin(ωt + q·π/2 + φ), así que basta
+ * con dos referencias por contexto, sin y cos: las cuatro rotaciones son
+ * ±sin y ±cos. Un error desplaza el cuadrante 180°, y el siguiente error
+ * que eso provoca lo regresa: los errores aislados llegan en pares, como
+ * en la codificación diferencial.
+ */
+public class ContinuousPhaseDemodulator extends Demodulator {
+
+    private final int memory;
+
+    private int quadrant;  // Cuadrante de θ del bit actual
+    private int history;   // Bits k - L .. k - 1 ya decididos (bit j = bit k - L + j)
+
+    /**
+     * Constructor
+     *
+     * @param references references[2c] = sin(ωt + φc), references[2c + 1] = cos(ωt + φc)
+     *                   para cada contexto c de 2L + 1 bits
+     * @param memory Bits vecinos que alcanza el pulso de fase (L)
+     * @param output Destino de los bits recuperados
+     */
+    public ContinuousPhaseDemodulator(double[][] references, int memory, IntConsumer output) {
+        super(references, 1, output);
+        if (references.length != 2 << (2 * memory + 1)) {
+            throw new IllegalArgumentException("Se requieren dos referencias por contexto de "
+                    + (2 * memory + 1) + " bits");
+        }
+        this.memory = memory;
+    }
+
+    @Override
+    protected int decide(double[] correlations) {
+        int best = 0;
+        double bestCorrelation = Double.NEGATIVE_INFINITY;
+        for (int future = 0; future < 1 << (memory + 1); future++) {
+            int context = history | future << memory;
+            double correlation = rotate(correlations, context);
+            if (correlation > bestCorrelation) {
+                bestCorrelation = correlation;
+                best = context;
+            }
+        }
+        int bit = best >>> memory & 1;
+
+        // El bit k - L termina de aportar su fase y sale del contexto
+        int decided = history | bit << memory;
+        quadrant = (quadrant + ((decided & 1) != 0 ? 1 : 3)) & 3;
+        history = decided >>> 1;
+        return bit;
+    }
+
+    /**
+     * Correlación con la trayectoria del contexto en el cuadrante actual
+     */
+    private double rotate(double[] correlations, int context) {
+        switch (quadrant) {
+            case 0:
+                return correlations[2 * context];
+            case 1:
+                return correlations[2 * context + 1];
+            case 2:
+                return -correlations[2 * context];
+            default:
+                return -correlations[2 * context + 1];
+        }
+    }
+}
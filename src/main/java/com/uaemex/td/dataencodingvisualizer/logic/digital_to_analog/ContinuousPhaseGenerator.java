@@ -0,0 +1,182 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import com.uaemex.td.dataencodingvisualizer.model.SampleSink;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Clase base de las modulaciones de fase continua binarias con índice 1/2 (MSK, GMSK)
+ *
+ * La señal es A·sin(ωt + φ(t)), donde cada bit (a = ±1) suma a·π/2 a la
+ * fase repartidos según el pulso de fase q(t) de la técnica: q pasa de 0 a
+ * π/2 a lo largo de 2·getMemory() + 1 bits, centrados en el bit. Durante el
+ * bit k la fase es
+ *   φ = θk + Σ a(k+j) · q(τ - j),  j = -L..L,  τ = tiempo dentro del bit
+ * donde θk (la contribución completa de los bits anteriores a k - L) solo
+ * puede ser un múltiplo de π/2.
+ *
+ * Así la forma de onda de un bit depende solo del cuadrante de θk y de los
+ * 2L + 1 bits que lo rodean: se precalcula una trayectoria por cada
+ * combinación (4 · 2^(2L+1) tablas de samplesPerBit muestras) y modular
+ * es copiar la tabla de cada bit, sin integrar el pulso ni evaluar senos
+ * por muestra. Como la portadora tiene ciclos enteros por bit, su fase al
+ * inicio de cada bit es siempre 0 y cabe en la misma tabla.
+ *
+ * Los bits fuera de la secuencia se toman como '0'.
+ */
+public abstract class ContinuousPhaseGenerator extends DigitalToAnalogGenerator {
+
+    // Trayectorias: [cuadrante << bitsDeContexto | contexto] -> samplesPerBit muestras
+    private double[][] trajectories;
+    private double[] trajectoryKey;
+
+    /**
+     * Pulso de fase acumulado
+     *
+     * @param t Tiempo en bits desde el inicio del bit (el bit ocupa [0, 1])
+     * @return Fase aportada hasta t por un bit '1': 0 para t ≤ -L, π/2 para t ≥ L + 1
+     */
+    protected abstract double phasePulse(double t);
+
+    /**
+     * Bits a cada lado del actual que alcanzan a modificar su fase (L)
+     *
+     * @return 0 si el pulso de frecuencia dura un solo bit (MSK)
+     */
+    protected abstract int getMemory();
+
+    /**
+     * Tono de cada bit en régimen permanente (todos los bits iguales): la
+     * fase avanza a·π/2 por bit, es decir, frecuencia fc ± 1/(4·Tb)
+     */
+    @Override
+    protected double symbolSample(int symbol, double localTime) {
+        double deviation = (symbol == 1 ? 1 : -1) * Math.PI / 2 * localTime / bitDuration;
+        return amplitude * Math.sin(getAdjustedOmega() * localTime + deviation);
+    }
+
+    /**
+     * Copia la trayectoria de cada bit según su cuadrante y su contexto
+     * El cuadrante inicial de una ventana sale de contar los unos previos.
+     */
+    @Override
+    protected void modulate(BitSequence bits, int from, int to, SampleSink sink) {
+        double[][] waves = getTrajectories();
+        double[] offsets = getTemplateOffsets();
+        int memory = getMemory();
+        int contextBits = 2 * memory + 1;
+
+        // θ = π/2 · Σ a(i) para i = -L .. from - L - 1 (from términos)
+        int settled = Math.max(0, Math.min(bits.length(), from - memory));
+        int quadrant = Math.floorMod(2 * bits.cardinality(0, settled) - from, 4);
+        int context = 0;
+        for (int j = 0; j < contextBits; j++) {
+            context |= bitAt(bits, from - memory + j) << j;
+        }
+
+        for (int k = from; k < to; k++) {
+            sink.acceptBlock(k * bitDuration, offsets, waves[quadrant << contextBits | context]);
+
+            // El bit más antiguo del contexto ya aportó toda su fase
+            quadrant = (quadrant + ((context & 1) != 0 ? 1 : 3)) & 3;
+            context = (context >>> 1) | bitAt(bits, k + memory + 1) << (contextBits - 1);
+        }
+    }
+
+    private static int bitAt(BitSequence bits, int index) {
+        return index >= 0 && index < bits.length() ? bits.bit(index) : 0;
+    }
+
+    /**
+     * Devuelve las trayectorias de los parámetros actuales, construyéndolas si cambiaron
+     */
+    private double[][] getTrajectories() {
+        double[] key = getTemplateKey();
+        if (trajectories != null && Arrays.equals(key, trajectoryKey)) {
+            return trajectories;
+        }
+
+        int contextBits = 2 * getMemory() + 1;
+        double[][] phases = phaseTable();
+        double[] offsets = getTemplateOffsets();
+        double omega = getAdjustedOmega();
+
+        double[][] waves = new double[4 * phases.length][samplesPerBit];
+        for (int context = 0; context < phases.length; context++) {
+            for (int i = 0; i < samplesPerBit; i++) {
+                for (int quadrant = 0; quadrant < 4; quadrant++) {
+                    waves[quadrant << contextBits | context][i] =
+                            amplitude * Math.sin(omega * offsets[i] + quadrant * Math.PI / 2 + phases[context][i]);
+                }
+            }
+        }
+
+        trajectoryKey = key;
+        trajectories = waves;
+        return waves;
+    }
+
+    /**
+     * Trayectoria de fase de cada contexto (sin θ) en cada muestra del bit
+     * El contexto tiene el bit k - L + j en su bit j.
+     *
+     * @return [contexto][muestra] fase en radianes
+     */
+    private double[][] phaseTable() {
+        int memory = getMemory();
+        int contextBits = 2 * memory + 1;
+
+        // Pulso de fase en cada muestra para cada posición del contexto
+        double[][] pulse = new double[contextBits][samplesPerBit];
+        for (int j = 0; j < contextBits; j++) {
+            for (int i = 0; i < samplesPerBit; i++) {
+                pulse[j][i] = phasePulse((double) i / samplesPerBit + memory - j);
+            }
+        }
+
+        double[][] phases = new double[1 << contextBits][samplesPerBit];
+        for (int context = 0; context < phases.length; context++) {
+            for (int i = 0; i < samplesPerBit; i++) {
+                double phase = 0.0;
+                for (int j = 0; j < contextBits; j++) {
+                    phase += ((context >>> j & 1) != 0 ? 1 : -1) * pulse[j][i];
+                }
+                phases[context][i] = phase;
+            }
+        }
+        return phases;
+    }
+
+    /**
+     * Receptor coherente con realimentación de decisiones (ver ContinuousPhaseDemodulator)
+     * Las referencias son sin y cos de la portadora desplazada por la
+     * trayectoria de fase de cada contexto.
+     */
+    @Override
+    public Demodulator createDemodulator(IntConsumer output) {
+        double[][] phases = phaseTable();
+        double[] offsets = getTemplateOffsets();
+        double omega = getAdjustedOmega();
+
+        double[][] references = new double[2 * phases.length][samplesPerBit];
+        for (int context = 0; context < phases.length; context++) {
+            for (int i = 0; i < samplesPerBit; i++) {
+                double angle = omega * offsets[i] + phases[context][i];
+                references[2 * context][i] = Math.sin(angle);
+                references[2 * context + 1][i] = Math.cos(angle);
+            }
+        }
+        return new ContinuousPhaseDemodulator(references, getMemory(), output);
+    }
+
+    @Override
+    protected boolean supportsPulseShaping() {
+        return false;
+    }
+
+    @Override
+    protected boolean hasMemory() {
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Demodulador diferencial de DPSK binaria
+ *
+ * Proyecta cada símbolo sobre el coseno y el seno de la portadora y lo
+ * compara con el símbolo anterior: si el producto punto de las dos
+ * proyecciones es negativo la fase cambió 180° (bit '1'). No necesita
+ * conocer la fase absoluta de la portadora.
+ */
+public class DPSKDemodulator extends Demodulator {
+
+    private double previousI;
+    private double previousQ;
+
+    /**
+     * Constructor
+     *
+     * @param cosine Referencia en fase, cos(ωt)
+     * @param sine Referencia en cuadratura, sin(ωt)
+     * @param referenceI Proyección del símbolo de referencia (fase inicial) sobre cosine
+     * @param referenceQ Proyección del símbolo de referencia sobre sine
+     * @param output Destino de los bits recuperados
+     */
+    public DPSKDemodulator(double[] cosine, double[] sine, double referenceI, double referenceQ,
+                           IntConsumer output) {
+        super(new double[][]{cosine, sine}, 1, output);
+        this.previousI = referenceI;
+        this.previousQ = referenceQ;
+    }
+
+    @Override
+    protected int decide(double[] correlations) {
+        double dot = correlations[0] * previousI + correlations[1] * previousQ;
+        previousI = correlations[0];
+        previousQ = correlations[1];
+        return dot < 0 ? 1 : 0;
+    }
+}
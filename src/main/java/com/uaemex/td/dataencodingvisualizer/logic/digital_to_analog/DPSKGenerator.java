@@ -0,0 +1,86 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import com.uaemex.td.dataencodingvisualizer.model.SampleSink;
+import java.util.function.IntConsumer;
+
+/**
+ * Differential Phase Shift Keying (DPSK)
+ * Codifica cada bit en el cambio de fase respecto al símbolo anterior
+ * Bit 0 = se conserva la fase
+ * Bit 1 = la fase cambia 180°
+ * El receptor compara símbolos consecutivos, así que no necesita
+ * recuperar la fase absoluta de la portadora
+ *
+ * La fase de referencia antes del primer bit es 0°. Las dos formas de onda
+ * posibles (fase 0° y 180°) se toman de las plantillas; la fase de cada
+ * símbolo es la paridad de los unos transmitidos hasta él.
+ */
+public class DPSKGenerator extends DigitalToAnalogGenerator {
+
+    /**
+     * @param symbol Estado de fase: 0 = 0°, 1 = 180° (no el bit de datos)
+     */
+    @Override
+    protected double symbolSample(int symbol, double localTime) {
+        // Ciclos enteros por bit para visualizacion limpia
+        return amplitude * Math.sin(getAdjustedOmega() * localTime + Math.PI * symbol);
+    }
+
+    /**
+     * Cada bit invierte o conserva la fase del anterior; la fase inicial de
+     * una ventana es la paridad de los unos previos
+     */
+    @Override
+    protected void modulate(BitSequence bits, int from, int to, SampleSink sink) {
+        double[][] waves = getTemplates();
+        double[] offsets = getTemplateOffsets();
+        int state = bits.cardinality(0, from) & 1;
+
+        for (int b = from; b < to; b++) {
+            state ^= bits.bit(b);
+            sink.acceptBlock(b * bitDuration, offsets, waves[state]);
+        }
+    }
+
+    /**
+     * Demodulador diferencial (ver DPSKDemodulator)
+     */
+    @Override
+    public Demodulator createDemodulator(IntConsumer output) {
+        double[] cosine = reference(getAdjustedOmega(), false);
+        double[] sine = reference(getAdjustedOmega(), true);
+        double[][] points = projectTemplates(cosine, sine);
+        return new DPSKDemodulator(cosine, sine, points[0][0], points[1][0], output);
+    }
+
+    @Override
+    protected boolean supportsPulseShaping() {
+        return false;
+    }
+
+    @Override
+    protected boolean hasMemory() {
+        return true;
+    }
+
+    /**
+     * BER de DPSK binaria con detección diferencial: e^(-Eb/N0) / 2
+     */
+    @Override
+    public double getTheoreticalBER(double ebN0Db) {
+        double ebN0 = Math.pow(10, ebN0Db / 10.0);
+        return 0.5 * Math.exp(-ebN0);
+    }
+
+    @Override
+    public String getName() {
+        return "DPSK (Differential Phase Shift Keying)";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Codifica cada bit en el cambio de fase: bit '1' = la fase cambia 180°, bit '0' = se conserva. "
+                + "El receptor no necesita la fase absoluta";
+    }
+}
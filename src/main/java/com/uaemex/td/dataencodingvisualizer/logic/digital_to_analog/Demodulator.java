@@ -0,0 +1,216 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import com.uaemex.td.dataencodingvisualizer.model.SampleSink;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Clase base de los demoduladores en flujo (integrar y descargar)
+ *
+ * Recibe la señal muestreada (samplesPerBit muestras por símbolo, como la
+ * produce DigitalToAnalogGenerator) en bloques de cualquier tamaño. Durante
+ * cada símbolo acumula la correlación de la señal con un conjunto de
+ * referencias precalculadas; al terminar el símbolo la subclase decide su
+ * valor a partir de las correlaciones y se reinicia el integrador.
+ *
+ * Las referencias se calculan una sola vez, así que demodular no evalúa
+ * funciones trigonométricas. Los bits de cada símbolo se entregan en orden
+ * (primer bit = el más significativo) a un IntConsumer; el último símbolo
+ * puede traer bits de relleno que el receptor debe descartar.
+ */
+public abstract class Demodulator implements SampleSink {
+
+    private final double[][] references;  // [referencia][muestra del símbolo]
+    private final double[] correlations;
+    private final int samplesPerSymbol;
+    private final int bitsPerSymbol;
+    private final IntConsumer output;
+    private CorrelationListener listener;
+
+    private int sampleInSymbol;
+    private long decodedSymbols;
+
+    /**
+     * Constructor
+     *
+     * @param references Señales de referencia (todas con samplesPerSymbol muestras)
+     * @param bitsPerSymbol Bits que transporta cada símbolo
+     * @param output Destino de los bits recuperados
+     */
+    protected Demodulator(double[][] references, int bitsPerSymbol, IntConsumer output) {
+        if (references.length == 0 || references[0].length == 0) {
+            throw new IllegalArgumentException("Se requiere al menos una referencia con muestras");
+        }
+        for (double[] reference : references) {
+            if (reference.length != references[0].length) {
+                throw new IllegalArgumentException("Todas las referencias deben tener la misma longitud");
+            }
+        }
+        this.references = references;
+        this.correlations = new double[references.length];
+        this.samplesPerSymbol = references[0].length;
+        this.bitsPerSymbol = bitsPerSymbol;
+        this.output = output;
+    }
+
+    /**
+     * Recibe una muestra (el tiempo se ignora: las muestras llegan en orden)
+     */
+    @Override
+    public void accept(double x, double y) {
+        for (int r = 0; r < references.length; r++) {
+            correlations[r] += references[r][sampleInSymbol] * y;
+        }
+        if (++sampleInSymbol == samplesPerSymbol) {
+            dump();
+        }
+    }
+
+    /**
+     * Recibe un bloque de muestras directamente del modulador
+     */
+    @Override
+    public void acceptBlock(double time, double[] offsets, double[] values) {
+        accept(values, 0, values.length);
+    }
+
+    /**
+     * Recibe un bloque de muestras
+     * Cada tramo dentro de un símbolo se correlaciona referencia por
+     * referencia en un ciclo interno sobre arreglos contiguos.
+     *
+     * @param samples Señal muestreada
+     * @param offset Posición de la primera muestra
+     * @param count Número de muestras
+     */
+    public void accept(double[] samples, int offset, int count) {
+        int i = offset;
+        int end = offset + count;
+        while (i < end) {
+            int n = Math.min(end - i, samplesPerSymbol - sampleInSymbol);
+            for (int r = 0; r < references.length; r++) {
+                double[] reference = references[r];
+                double sum = correlations[r];
+                for (int k = 0; k < n; k++) {
+                    sum += reference[sampleInSymbol + k] * samples[i + k];
+                }
+                correlations[r] = sum;
+            }
+            i += n;
+            sampleInSymbol += n;
+            if (sampleInSymbol == samplesPerSymbol) {
+                dump();
+            }
+        }
+    }
+
+    /**
+     * Fin de símbolo: entrega las correlaciones y reinicia el integrador
+     */
+    private void dump() {
+        endSymbol(correlations);
+        sampleInSymbol = 0;
+        Arrays.fill(correlations, 0.0);
+    }
+
+    /**
+     * Fin de un símbolo recibido: por defecto decide su valor con sus propias
+     * correlaciones y lo entrega. Los receptores que deciden con varios
+     * símbolos recibidos (ver MatchedFilterDemodulator) lo sobrescriben.
+     *
+     * @param correlations correlations[r] = suma de referencia r por la señal del símbolo
+     */
+    protected void endSymbol(double[] correlations) {
+        deliver(decide(correlations), correlations);
+    }
+
+    /**
+     * Entrega los bits de un símbolo decidido
+     *
+     * @param symbol Símbolo decidido
+     * @param statistics Valores con los que se decidió (los recibe el observador)
+     */
+    protected final void deliver(int symbol, double[] statistics) {
+        if (listener != null) {
+            listener.accept(statistics, symbol);
+        }
+        for (int b = bitsPerSymbol - 1; b >= 0; b--) {
+            output.accept((symbol >>> b) & 1);
+        }
+        decodedSymbols++;
+    }
+
+    /**
+     * Entrega los símbolos que el receptor aún retiene al terminar la señal
+     * Por defecto no hace nada: cada símbolo se decide al recibirlo.
+     */
+    public void finish() {
+    }
+
+    /**
+     * Decide el símbolo recibido a partir de sus correlaciones
+     *
+     * @param correlations correlations[r] = suma de referencia r por la señal del símbolo
+     * @return Valor del símbolo (primer bit en la posición más significativa)
+     */
+    protected abstract int decide(double[] correlations);
+
+    /**
+     * Registra un observador de las correlaciones de cada símbolo
+     * Permite ver lo que recibe el decisor (p. ej. el punto I/Q en una
+     * constelación) sin cambiar la demodulación.
+     *
+     * @param listener Observador, o null para quitarlo
+     */
+    public void setCorrelationListener(CorrelationListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return Referencias del correlador (sin copiar: no modificar)
+     */
+    double[][] getReferences() {
+        return references;
+    }
+
+    /**
+     * @return Número de símbolos decididos
+     */
+    public long getDecodedSymbols() {
+        return decodedSymbols;
+    }
+
+    /**
+     * @return Número de bits entregados (incluye el relleno del último símbolo)
+     */
+    public long getDecodedBits() {
+        return decodedSymbols * bitsPerSymbol;
+    }
+
+    /**
+     * @return Muestras por símbolo
+     */
+    public int getSamplesPerSymbol() {
+        return samplesPerSymbol;
+    }
+
+    /**
+     * @return Bits por símbolo
+     */
+    public int getBitsPerSymbol() {
+        return bitsPerSymbol;
+    }
+
+    /**
+     * Observador de las correlaciones de cada símbolo
+     */
+    @FunctionalInterface
+    public interface CorrelationListener {
+
+        /**
+         * @param correlations Correlaciones del símbolo (se reutilizan: copiar si se guardan)
+         * @param symbol Símbolo decidido
+         */
+        void accept(double[] correlations, int symbol);
+    }
+}
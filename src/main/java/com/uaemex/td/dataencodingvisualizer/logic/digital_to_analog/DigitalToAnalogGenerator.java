@@ -1,8 +1,19 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
 
 import com.uaemex.td.dataencodingvisualizer.logic.IGenerator;
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import com.uaemex.td.dataencodingvisualizer.model.ConstellationDiagram;
+import com.uaemex.td.dataencodingvisualizer.model.EyeDiagram;
+import com.uaemex.td.dataencodingvisualizer.model.SampleBuffer;
+import com.uaemex.td.dataencodingvisualizer.model.SampleSink;
 import com.uaemex.td.dataencodingvisualizer.model.SignalData;
+import com.uaemex.td.dataencodingvisualizer.model.SignalDecimator;
+import com.uaemex.td.dataencodingvisualizer.util.GaussianNoise;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Clase abstracta base para técnicas de Digital a Analógico (Modulación Digital)
@@ -32,8 +43,11 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
     /** Frecuencia de la señal portadora en Hz */
     protected double carrierFrequency;
 
-    /** Número de muestras por bit para generar señales suaves */
-    protected static final int SAMPLES_PER_BIT = 100;
+    /** Número de muestras por bit por defecto para generar señales suaves */
+    protected static final int DEFAULT_SAMPLES_PER_BIT = 100;
+
+    /** Número de muestras por bit (parámetro "samplesPerBit") */
+    protected int samplesPerBit;
 
     /** Amplitud de la señal portadora */
     protected double amplitude;
@@ -41,6 +55,23 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
     /** Duración de cada bit en segundos */
     protected double bitDuration;
 
+    /** Generador de ruido (ver generateAWGN) */
+    private GaussianNoise noise = new GaussianNoise(0L);
+
+    // Plantillas por símbolo: se reconstruyen solo si cambian los parámetros
+    private double[][] templates;      // [símbolo] -> samplesPerBit muestras
+    private double[] templateOffsets;  // Tiempo de cada muestra dentro del símbolo
+    private double[] templateKey;      // Parámetros con los que se construyeron
+
+    /** Forma del pulso (parámetro "pulseShape"), null para símbolos rectangulares */
+    private PulseShaper.Shape pulseShape;
+
+    /** Factor de roll-off del pulso (parámetro "rollOff") */
+    private double rollOff = 0.35;
+
+    /** Coeficientes del conformador para los parámetros actuales */
+    private PulseShaper shaper;
+
     /**
      * Constructor por defecto
      * Inicializa los parámetros con valores predeterminados
@@ -49,6 +80,670 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
         this.carrierFrequency = 5.0;    // 5 Hz por defecto
         this.amplitude = 1.0;            // Amplitud normalizada
         this.bitDuration = 1.0;          // 1 segundo por bit
+        this.samplesPerBit = DEFAULT_SAMPLES_PER_BIT;
+    }
+
+    /**
+     * Valida la cadena binaria y delega en generate(BitSequence, Map)
+     */
+    @Override
+    public List<SignalData> generate(String input, Map<String, Object> params) {
+        if (!isValidBinaryString(input)) {
+            return new ArrayList<>();
+        }
+        return generate(BitSequence.fromString(input), params);
+    }
+
+    /**
+     * Modula la secuencia de bits empaquetada y devuelve todas las muestras
+     */
+    @Override
+    public List<SignalData> generate(BitSequence bits, Map<String, Object> params) {
+        List<SignalData> data = new ArrayList<>();
+
+        if (bits.isEmpty()) {
+            return data;
+        }
+
+        applyParameters(params);
+        modulate(bits, 0, bits.length(), SampleSink.into(data));
+        return data;
+    }
+
+    /**
+     * Genera la vista diezmada en flujo: solo se almacenan los bits
+     * empaquetados y los bloques del diezmador
+     */
+    @Override
+    public List<SignalData> generateDecimated(BitSequence bits, Map<String, Object> params, int maxPoints) {
+        if (bits.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        applyParameters(params);
+        SignalDecimator decimator = new SignalDecimator(getSampleCount(bits.length()), maxPoints);
+        modulate(bits, 0, bits.length(), decimator);
+        return decimator.toSignalData();
+    }
+
+    /**
+     * Modula la secuencia en un búfer columnar (arreglos x, y)
+     * Cada símbolo se copia en bloque desde su plantilla.
+     *
+     * @param bits Secuencia a modular
+     * @param params Mapa de parámetros
+     * @return Búfer con las mismas muestras que generate(BitSequence, Map)
+     */
+    public SampleBuffer generateBuffer(BitSequence bits, Map<String, Object> params) {
+        applyParameters(params);
+        long total = getSampleCount(bits.length());
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Demasiadas muestras para un búfer: " + total
+                    + " (use generateDecimated o generateWindow)");
+        }
+        SampleBuffer buffer = new SampleBuffer((int) total);
+        if (!bits.isEmpty()) {
+            modulate(bits, 0, bits.length(), buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Acumula el diagrama de ojo de la secuencia en flujo
+     * Cada símbolo se pliega en el acumulador conforme se modula, así que
+     * la memoria depende solo de la rejilla y no del número de bits.
+     * El rango vertical es ±1.25 veces la amplitud.
+     *
+     * @param bits Secuencia a modular
+     * @param params Mapa de parámetros
+     * @param columns Celdas horizontales (la ventana abarca dos símbolos)
+     * @param rows Celdas verticales
+     * @return Diagrama de ojo con periodo de símbolo bitDuration
+     */
+    public EyeDiagram generateEye(BitSequence bits, Map<String, Object> params, int columns, int rows) {
+        applyParameters(params);
+        double peak = 1.25 * amplitude;
+        EyeDiagram eye = new EyeDiagram(bitDuration, columns, rows, -peak, peak);
+        if (!bits.isEmpty()) {
+            modulate(bits, 0, bits.length(), eye);
+        }
+        return eye;
+    }
+
+    /**
+     * Constelación ideal: el punto (I, Q) que transmite cada símbolo
+     * Los puntos se obtienen proyectando la plantilla del símbolo sobre
+     * cos(ωt) y sin(ωt), normalizados a unidades de amplitud, sin modular
+     * la señal. La rejilla cubre ±1.5 veces la amplitud.
+     *
+     * @param bits Secuencia a modular
+     * @param params Mapa de parámetros
+     * @param gridSize Celdas por eje de la rejilla
+     * @return Diagrama con un punto por símbolo
+     */
+    public ConstellationDiagram generateConstellation(BitSequence bits, Map<String, Object> params, int gridSize) {
+        applyParameters(params);
+        double[][] points = getSymbolPoints();
+
+        ConstellationDiagram diagram = new ConstellationDiagram(gridSize, 1.5 * amplitude);
+        int bitsPerSymbol = getBitsPerSymbol();
+        for (int b = 0; b < bits.length(); b += bitsPerSymbol) {
+            int symbol = symbolAt(bits, b);
+            diagram.accept(points[0][symbol], points[1][symbol]);
+        }
+        return diagram;
+    }
+
+    /**
+     * Constelación recibida: modula la secuencia en flujo, le suma ruido
+     * blanco gaussiano con la relación Eb/N0 indicada y registra la salida
+     * del correlador del demodulador (ver createDemodulator) en cada símbolo
+     * El ruido usa la semilla de setNoiseSeed. Para FSK la constelación se
+     * toma igual sobre la portadora central y solo sirve como referencia.
+     *
+     * @param bits Secuencia a modular
+     * @param params Mapa de parámetros
+     * @param gridSize Celdas por eje de la rejilla
+     * @param ebN0Db Relación Eb/N0 en dB
+     * @return Diagrama con un punto por símbolo
+     * @throws IllegalStateException si la señal usa pulsos RC (ver matchPulseShape)
+     */
+    public ConstellationDiagram generateConstellation(BitSequence bits, Map<String, Object> params,
+                                                      int gridSize, double ebN0Db) {
+        applyParameters(params);
+        double[] cosine = reference(getAdjustedOmega(), false);
+        double[] sine = reference(getAdjustedOmega(), true);
+        double scaleI = normalization(cosine);
+        double scaleQ = normalization(sine);
+
+        ConstellationDiagram diagram = new ConstellationDiagram(gridSize, 1.5 * amplitude);
+        if (bits.isEmpty()) {
+            return diagram;
+        }
+
+        // Correlador coherente I/Q, o el de la técnica si ya es coherente
+        Demodulator demodulator = createDemodulator(bit -> { });
+        if (!(demodulator instanceof CoherentDemodulator || demodulator instanceof MatchedFilterDemodulator)) {
+            double[][] points = projectTemplates(cosine, sine);
+            demodulator = new CoherentDemodulator(cosine, sine, points[0], points[1], getBitsPerSymbol(), bit -> { });
+        }
+        demodulator.setCorrelationListener((correlations, symbol) ->
+                diagram.accept(correlations[0] * scaleI, correlations[1] * scaleQ));
+
+        double energyPerBit = 0.0;
+        for (double[] wave : getTemplates()) {
+            energyPerBit += energy(wave);
+        }
+        energyPerBit /= getTemplates().length * getBitsPerSymbol();
+        double sigma = GaussianNoise.sigmaForEbN0(energyPerBit, ebN0Db);
+
+        Demodulator receiver = demodulator;
+        double[] received = new double[samplesPerBit];
+        modulate(bits, 0, bits.length(), new SampleSink() {
+            @Override
+            public void accept(double x, double y) {
+                receiver.accept(x, y + sigma * noise.next());
+            }
+
+            @Override
+            public void acceptBlock(double time, double[] offsets, double[] values) {
+                System.arraycopy(values, 0, received, 0, values.length);
+                noise.add(received, 0, values.length, sigma);
+                receiver.accept(received, 0, values.length);
+            }
+        });
+        receiver.finish();
+        return diagram;
+    }
+
+    private static double energy(double[] samples) {
+        double sum = 0.0;
+        for (double sample : samples) {
+            sum += sample * sample;
+        }
+        return sum;
+    }
+
+    /**
+     * Valida la cadena binaria y delega en generateWindow(BitSequence, Map, double, double)
+     */
+    @Override
+    public List<SignalData> generateWindow(String input, Map<String, Object> params, double t0, double t1) {
+        if (!isValidBinaryString(input)) {
+            return new ArrayList<>();
+        }
+        return generateWindow(BitSequence.fromString(input), params, t0, t1);
+    }
+
+    /**
+     * Modula solo los símbolos que se traslapan con [t0, t1] (t en segundos)
+     * y devuelve sus muestras dentro de [t0, t1], igual que recortar generate().
+     * Cada símbolo empieza en fase 0, así que la ventana se calcula
+     * directamente sin recorrer los símbolos anteriores.
+     */
+    @Override
+    public List<SignalData> generateWindow(BitSequence bits, Map<String, Object> params, double t0, double t1) {
+        List<SignalData> data = new ArrayList<>();
+        if (bits.isEmpty() || t1 < t0 || t1 < 0) {
+            return data;
+        }
+
+        applyParameters(params);
+        int bitsPerSymbol = getBitsPerSymbol();
+        int symbols = (bits.length() + bitsPerSymbol - 1) / bitsPerSymbol;
+        // Un símbolo de margen a cada lado por el redondeo de t / bitDuration;
+        // el recorte por x deja solo las muestras de [t0, t1]
+        int first = (int) Math.max(0, Math.floor(t0 / bitDuration) - 1);
+        if (first >= symbols) {
+            return data;
+        }
+        int last = (int) Math.min(symbols, Math.floor(t1 / bitDuration) + 2);
+
+        modulate(bits, first * bitsPerSymbol, Math.min(bits.length(), last * bitsPerSymbol),
+                SampleSink.clip(SampleSink.into(data), t0, t1));
+        return data;
+    }
+
+    /**
+     * Modula los bits [from, to) emitiendo cada muestra en sink
+     * Cada símbolo empieza en fase 0, así que su forma de onda depende solo
+     * de su valor: se copia la plantilla precalculada (ver symbolSample) en
+     * lugar de evaluar funciones trigonométricas por muestra. from siempre
+     * es el inicio de un símbolo; el primer símbolo se ubica en
+     * t = (from / getBitsPerSymbol()) * bitDuration.
+     * Con "pulseShape" los símbolos pasan antes por el conformador de pulsos
+     * (ver modulateShaped).
+     *
+     * @param bits Secuencia de bits (no vacía)
+     * @param from Primer bit a modular (inclusivo)
+     * @param to Último bit a modular (exclusivo)
+     * @param sink Destino de las muestras
+     */
+    protected void modulate(BitSequence bits, int from, int to, SampleSink sink) {
+        if (isPulseShaped()) {
+            modulateShaped(bits, from, to, sink);
+            return;
+        }
+        double[][] waves = getTemplates();
+        int bitsPerSymbol = getBitsPerSymbol();
+        int symbol = from / bitsPerSymbol;
+
+        // El tiempo de cada símbolo se calcula a partir de su índice (y no
+        // acumulando), para que una ventana repita exactamente los x de la señal completa
+        for (int b = from; b < to; b += bitsPerSymbol) {
+            sink.acceptBlock(symbol++ * bitDuration, templateOffsets, waves[symbolAt(bits, b)]);
+        }
+    }
+
+    /**
+     * Modula con conformación de pulsos: s(t) = I(t)·cos(ωt) + Q(t)·sin(ωt)
+     * Los puntos (I, Q) de cada símbolo (ver getSymbolPoints) se interpolan
+     * en flujo con el filtro polifásico, un canal por componente, y se
+     * mezclan con la portadora precalculada (ciclos enteros por símbolo, así
+     * que la portadora se repite igual en cada símbolo). Los símbolos antes
+     * de from y después de to que alcanzan la ventana se toman de bits, de
+     * modo que una ventana coincide con la señal completa.
+     */
+    private void modulateShaped(BitSequence bits, int from, int to, SampleSink sink) {
+        double[][] points = getSymbolPoints();
+        double[] cosine = reference(getAdjustedOmega(), false);
+        double[] sine = reference(getAdjustedOmega(), true);
+        PulseShaper filter = getPulseShaper();
+        PulseShaper.Interpolator channelI = filter.newInterpolator();
+        PulseShaper.Interpolator channelQ = filter.newInterpolator();
+
+        int bitsPerSymbol = getBitsPerSymbol();
+        int symbols = (bits.length() + bitsPerSymbol - 1) / bitsPerSymbol;
+        int first = from / bitsPerSymbol;
+        int last = (to + bitsPerSymbol - 1) / bitsPerSymbol;
+        int delay = filter.getDelay();
+
+        // Llenar la ventana con los símbolos anteriores y los primeros siguientes
+        for (int k = first - delay; k < first + delay; k++) {
+            pushSymbol(bits, k, symbols, points, channelI, channelQ);
+        }
+
+        double[] offsets = getTemplateOffsets();
+        double[] inPhase = new double[samplesPerBit];
+        double[] quadrature = new double[samplesPerBit];
+        double[] values = new double[samplesPerBit];
+        for (int k = first; k < last; k++) {
+            pushSymbol(bits, k + delay, symbols, points, channelI, channelQ);
+            channelI.render(inPhase, 0);
+            channelQ.render(quadrature, 0);
+            for (int i = 0; i < samplesPerBit; i++) {
+                values[i] = inPhase[i] * cosine[i] + quadrature[i] * sine[i];
+            }
+            sink.acceptBlock(k * bitDuration, offsets, values);
+        }
+    }
+
+    /**
+     * Agrega el símbolo k a los dos canales (ceros fuera de la secuencia)
+     */
+    private void pushSymbol(BitSequence bits, int k, int symbols, double[][] points,
+                            PulseShaper.Interpolator channelI, PulseShaper.Interpolator channelQ) {
+        if (k < 0 || k >= symbols) {
+            channelI.push(0.0);
+            channelQ.push(0.0);
+        } else {
+            int symbol = symbolAt(bits, k * getBitsPerSymbol());
+            channelI.push(points[0][symbol]);
+            channelQ.push(points[1][symbol]);
+        }
+    }
+
+    /**
+     * Devuelve el conformador de los parámetros actuales, recalculando los
+     * coeficientes solo si cambiaron la forma, el roll-off o las muestras
+     */
+    private PulseShaper getPulseShaper() {
+        if (shaper == null || shaper.getShape() != pulseShape || shaper.getRollOff() != rollOff
+                || shaper.getSamplesPerSymbol() != samplesPerBit) {
+            shaper = new PulseShaper(pulseShape, rollOff, samplesPerBit);
+        }
+        return shaper;
+    }
+
+    /**
+     * @return true si se modula con conformación de pulsos ("pulseShape" y técnica lineal)
+     */
+    boolean isPulseShaped() {
+        return pulseShape != null && supportsPulseShaping();
+    }
+
+    /**
+     * Indica si la técnica es lineal en (I, Q) y admite conformación de pulsos
+     *
+     * @return true por defecto; false en modulaciones de frecuencia (FSK)
+     */
+    protected boolean supportsPulseShaping() {
+        return true;
+    }
+
+    /**
+     * Indica si la forma de onda de un símbolo depende de los anteriores
+     * (modulación diferencial o de fase continua) y no solo de su valor
+     * Estas técnicas reemplazan modulate y no admiten la simulación de BER
+     * por símbolos independientes (ver BerSimulator).
+     *
+     * @return false por defecto
+     */
+    protected boolean hasMemory() {
+        return false;
+    }
+
+    /**
+     * Valor de la muestra de un símbolo
+     * Cada subclase implementa aquí su técnica de modulación; solo se
+     * evalúa al construir las plantillas.
+     *
+     * @param symbol Valor del símbolo (primer bit en la posición más significativa)
+     * @param localTime Tiempo desde el inicio del símbolo en segundos
+     * @return Amplitud de la señal
+     */
+    protected abstract double symbolSample(int symbol, double localTime);
+
+    /**
+     * Parámetros de los que dependen las plantillas
+     * Las subclases con parámetros propios de la forma de onda lo extienden.
+     *
+     * @return Valores que, si cambian, obligan a reconstruir las plantillas
+     */
+    protected double[] getTemplateKey() {
+        return new double[]{samplesPerBit, carrierFrequency, amplitude, bitDuration};
+    }
+
+    /**
+     * Lee el símbolo que empieza en el bit b (rellena con 0 al final)
+     * Los bits se extraen de la palabra empaquetada en una sola lectura y
+     * se invierten para que el primer bit quede en la posición más significativa.
+     */
+    private int symbolAt(BitSequence bits, int b) {
+        int bitsPerSymbol = getBitsPerSymbol();
+        int value = (int) bits.bits(b, bitsPerSymbol);
+        return Integer.reverse(value) >>> (32 - bitsPerSymbol);
+    }
+
+    /**
+     * Convierte un código Gray a su índice binario (posición en la constelación)
+     * Símbolos vecinos difieren en un solo bit, así que un error de decisión
+     * al símbolo adyacente cuesta un solo bit.
+     *
+     * @param gray Código Gray
+     * @return Índice binario
+     */
+    protected static int grayToBinary(int gray) {
+        int binary = gray;
+        for (int shift = gray >>> 1; shift != 0; shift >>>= 1) {
+            binary ^= shift;
+        }
+        return binary;
+    }
+
+    /**
+     * Devuelve las plantillas de los parámetros actuales, construyéndolas
+     * (2^getBitsPerSymbol() símbolos × samplesPerBit muestras) si cambiaron
+     */
+    double[][] getTemplates() {
+        double[] key = getTemplateKey();
+        if (templates != null && Arrays.equals(key, templateKey)) {
+            return templates;
+        }
+
+        double[] offsets = new double[samplesPerBit];
+        for (int i = 0; i < samplesPerBit; i++) {
+            offsets[i] = (i / (double) samplesPerBit) * bitDuration;
+        }
+        double[][] waves = new double[1 << getBitsPerSymbol()][samplesPerBit];
+        for (int symbol = 0; symbol < waves.length; symbol++) {
+            for (int i = 0; i < samplesPerBit; i++) {
+                waves[symbol][i] = symbolSample(symbol, offsets[i]);
+            }
+        }
+
+        templateOffsets = offsets;
+        templateKey = key;
+        templates = waves;
+        return waves;
+    }
+
+    /**
+     * @return Tiempo de cada muestra dentro del símbolo para los parámetros actuales
+     */
+    double[] getTemplateOffsets() {
+        getTemplates();
+        return templateOffsets;
+    }
+
+    /**
+     * Crea un demodulador en flujo para la señal de esta técnica
+     * Usa los parámetros actuales (aplicarlos antes, p. ej. con generate).
+     * Por defecto es coherente: proyecta cada símbolo sobre el coseno y el
+     * seno de la portadora y elige el punto más cercano, lo que sirve para
+     * cualquier técnica de una sola portadora (ASK, PSK). Con "pulseShape"
+     * se antepone el filtro acoplado (ver matchPulseShape).
+     *
+     * @param output Destino de los bits recuperados (0 o 1)
+     * @return Demodulador
+     * @throws IllegalStateException si la señal usa pulsos RC
+     */
+    public Demodulator createDemodulator(IntConsumer output) {
+        double omega = getAdjustedOmega();
+        double[] cosine = reference(omega, false);
+        double[] sine = reference(omega, true);
+        double[][] points = projectTemplates(cosine, sine);
+        return matchPulseShape(new CoherentDemodulator(cosine, sine, points[0], points[1],
+                getBitsPerSymbol(), output), output);
+    }
+
+    /**
+     * Adapta un demodulador coherente a la conformación de pulsos configurada
+     *
+     * Con pulsos RRC le antepone el filtro acoplado y el muestreo en el
+     * centro del símbolo (ver MatchedFilterDemodulator). Con pulsos RC no
+     * hay filtro acoplado sin interferencia entre símbolos (RC * RC no es
+     * Nyquist), así que no se construye el demodulador; tampoco si el
+     * roll-off es tan pequeño que el pulso truncado no deja margen.
+     *
+     * @param slicer Demodulador de símbolos rectangulares (decide con sus puntos)
+     * @param output Destino de los bits recuperados
+     * @return slicer si los símbolos son rectangulares, o el receptor de filtro acoplado
+     * @throws IllegalStateException si la señal usa pulsos RC o el roll-off no deja margen
+     */
+    protected Demodulator matchPulseShape(CoherentDemodulator slicer, IntConsumer output) {
+        if (!isPulseShaped()) {
+            return slicer;
+        }
+        if (pulseShape != PulseShaper.Shape.RRC) {
+            throw new IllegalStateException("Solo se pueden demodular pulsos RRC (filtro acoplado): "
+                    + pulseShape);
+        }
+        int span = PulseShaper.SPAN;
+        double omega = getAdjustedOmega();
+        double[] cosine = reference(omega, false);
+        double[] sine = reference(omega, true);
+        double[][] pulse = new double[2 * span + 1][samplesPerBit];
+        double[][] references = new double[2 * pulse.length][samplesPerBit];
+        for (int d = -span; d <= span; d++) {
+            for (int q = 0; q < samplesPerBit; q++) {
+                double weight = PulseShaper.pulse(pulseShape, rollOff, d + (double) q / samplesPerBit - 0.5);
+                pulse[d + span][q] = weight;
+                references[2 * (d + span)][q] = cosine[q] * weight;
+                references[2 * (d + span) + 1][q] = sine[q] * weight;
+            }
+        }
+        checkResidualInterference(pulse, slicer);
+        return new MatchedFilterDemodulator(references, pulse, slicer, output);
+    }
+
+    /**
+     * Rechaza el filtro acoplado si el pulso truncado a ±SPAN deja más
+     * interferencia que el margen de decisión de la constelación
+     *
+     * La cota es la del peor caso: el punto más alejado del origen por la
+     * suma de |x(m)| / x(0), m ≠ 0, donde x es la autocorrelación del pulso
+     * muestreado en los centros de símbolo.
+     */
+    private void checkResidualInterference(double[][] pulse, CoherentDemodulator slicer) {
+        double[] x = new double[pulse.length];
+        for (int m = 0; m < pulse.length; m++) {
+            for (int d = m; d < pulse.length; d++) {
+                for (int q = 0; q < samplesPerBit; q++) {
+                    x[m] += pulse[d][q] * pulse[d - m][q];
+                }
+            }
+        }
+        double interference = 0.0;
+        for (int m = 1; m < x.length; m++) {
+            interference += 2 * Math.abs(x[m]);
+        }
+        interference /= x[0];
+
+        int symbols = 1 << slicer.getBitsPerSymbol();
+        double peak = 0.0;
+        double minDistance = Double.POSITIVE_INFINITY;
+        for (int a = 0; a < symbols; a++) {
+            peak = Math.max(peak, Math.hypot(slicer.getPointI(a), slicer.getPointQ(a)));
+            for (int b = a + 1; b < symbols; b++) {
+                double distance = Math.hypot(slicer.getPointI(a) - slicer.getPointI(b),
+                        slicer.getPointQ(a) - slicer.getPointQ(b));
+                if (distance > 0) {
+                    minDistance = Math.min(minDistance, distance);
+                }
+            }
+        }
+        if (peak * interference >= minDistance / 2) {
+            throw new IllegalStateException(String.format(
+                    "Roll-off demasiado pequeño para %d símbolos: el pulso truncado deja %.1f%% de interferencia",
+                    symbols, 100 * interference));
+        }
+    }
+
+    /**
+     * Frecuencia angular de la portadora ajustada a un número entero de
+     * ciclos por símbolo, para que todo símbolo empiece y termine en fase 0
+     *
+     * @return Frecuencia angular en radianes/segundo
+     */
+    protected double getAdjustedOmega() {
+        int cyclesPerBit = Math.max(1, (int) Math.round(carrierFrequency * bitDuration));
+        return 2 * Math.PI * cyclesPerBit / bitDuration;
+    }
+
+    /**
+     * Muestrea una referencia en los mismos instantes que un símbolo
+     *
+     * @param omega Frecuencia angular en radianes/segundo
+     * @param sine true para sin(ωt), false para cos(ωt)
+     * @return samplesPerBit muestras de la referencia
+     */
+    protected double[] reference(double omega, boolean sine) {
+        double[] values = new double[samplesPerBit];
+        for (int i = 0; i < samplesPerBit; i++) {
+            double localTime = (i / (double) samplesPerBit) * bitDuration;
+            values[i] = sine ? Math.sin(omega * localTime) : Math.cos(omega * localTime);
+        }
+        return values;
+    }
+
+    /**
+     * Proyecta la plantilla de cada símbolo sobre dos referencias
+     * Da los puntos de la constelación en las unidades del correlador.
+     *
+     * @return {proyecciones sobre cosine, proyecciones sobre sine}
+     */
+    protected double[][] projectTemplates(double[] cosine, double[] sine) {
+        double[][] waves = getTemplates();
+        double[][] points = new double[2][waves.length];
+        for (int symbol = 0; symbol < waves.length; symbol++) {
+            for (int i = 0; i < samplesPerBit; i++) {
+                points[0][symbol] += waves[symbol][i] * cosine[i];
+                points[1][symbol] += waves[symbol][i] * sine[i];
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Punto (I, Q) de cada símbolo en unidades de amplitud: la plantilla es
+     * I·cos(ωt) + Q·sin(ωt) (proyecciones normalizadas por la energía de
+     * cada referencia)
+     *
+     * @return {componentes I, componentes Q}
+     */
+    protected double[][] getSymbolPoints() {
+        double[] cosine = reference(getAdjustedOmega(), false);
+        double[] sine = reference(getAdjustedOmega(), true);
+        double[][] points = projectTemplates(cosine, sine);
+        double scaleI = normalization(cosine);
+        double scaleQ = normalization(sine);
+        for (int symbol = 0; symbol < points[0].length; symbol++) {
+            points[0][symbol] *= scaleI;
+            points[1][symbol] *= scaleQ;
+        }
+        return points;
+    }
+
+    /**
+     * @return 1 / energía de la referencia (0 si la referencia es nula)
+     */
+    private static double normalization(double[] reference) {
+        double energy = energy(reference);
+        return energy > 0 ? 1.0 / energy : 0.0;
+    }
+
+    /**
+     * Número de bits que transporta cada símbolo
+     *
+     * @return 1 para modulaciones binarias (ASK, FSK, BPSK)
+     */
+    protected int getBitsPerSymbol() {
+        return 1;
+    }
+
+    /**
+     * Lee los parámetros comunes de modulación del mapa
+     * Las subclases con parámetros propios lo extienden. Si falta
+     * "samplesPerBit" se vuelve al valor por defecto.
+     *
+     * @param params Mapa de parámetros (puede ser null)
+     */
+    protected void applyParameters(Map<String, Object> params) {
+        if (params != null) {
+            if (params.containsKey("carrierFrequency")) {
+                carrierFrequency = (Double) params.get("carrierFrequency");
+            }
+            if (params.containsKey("amplitude")) {
+                amplitude = (Double) params.get("amplitude");
+            }
+            if (params.containsKey("bitDuration")) {
+                bitDuration = (Double) params.get("bitDuration");
+            }
+            if (params.containsKey("pulseShape")) {
+                pulseShape = PulseShaper.Shape.fromParameter(params.get("pulseShape"));
+            }
+            if (params.containsKey("rollOff")) {
+                setRollOff((Double) params.get("rollOff"));
+            }
+        }
+        if (params != null && params.containsKey("samplesPerBit")) {
+            setSamplesPerBit(((Number) params.get("samplesPerBit")).intValue());
+        } else {
+            samplesPerBit = DEFAULT_SAMPLES_PER_BIT;
+        }
+    }
+
+    /**
+     * Número de muestras que produce la modulación de bitCount bits
+     * Un símbolo por cada getBitsPerSymbol() bits (el último se rellena).
+     *
+     * @param bitCount Número de bits de entrada
+     * @return Número total de muestras
+     */
+    protected long getSampleCount(int bitCount) {
+        int bitsPerSymbol = getBitsPerSymbol();
+        return (long) ((bitCount + bitsPerSymbol - 1) / bitsPerSymbol) * samplesPerBit;
     }
 
     /**
@@ -58,7 +753,7 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
      * @return true si es válida, false en caso contrario
      */
     protected boolean isValidBinaryString(String input) {
-        return input != null && !input.isEmpty() && input.matches("[01]+");
+        return BitSequence.isBinary(input);
     }
 
     /**
@@ -115,26 +810,27 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
      * @return Energía por bit (Eb)
      */
     protected double calculateEnergyPerBit() {
-        return amplitude * amplitude * bitDuration / 2.0;
+        return amplitude * amplitude * bitDuration / 2.0 / getBitsPerSymbol();
     }
 
     /**
      * Calcula la tasa de bits (bit rate) basada en la duración del bit
+     * Cada símbolo dura bitDuration y transporta getBitsPerSymbol() bits.
      *
      * @return Tasa de bits en bits por segundo (bps)
      */
     protected double calculateBitRate() {
-        return 1.0 / bitDuration;
+        return getBitsPerSymbol() / bitDuration;
     }
 
     /**
      * Calcula la tasa de símbolos (baud rate)
-     * Para modulaciones binarias (ASK, FSK, PSK): baud rate = bit rate
+     * Para modulaciones binarias (ASK, FSK, BPSK): baud rate = bit rate
      *
      * @return Tasa de símbolos en baudios
      */
     protected double calculateBaudRate() {
-        return calculateBitRate(); // Para modulación binaria
+        return 1.0 / bitDuration;
     }
 
     /**
@@ -149,25 +845,6 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
         return value / maxValue;
     }
 
-    /**
-     * Aplica filtro de transición suave entre bits (raised cosine)
-     *
-     * @param sample Índice de la muestra dentro del bit
-     * @param totalSamples Total de muestras por bit
-     * @param rollOff Factor de roll-off (0 a 1)
-     * @return Factor de suavizado
-     */
-    protected double raisedCosineFilter(int sample, int totalSamples, double rollOff) {
-        double t = (double) sample / totalSamples - 0.5;
-        double numerator = Math.sin(Math.PI * t);
-        double denominator = Math.PI * t * (1 - 4 * rollOff * rollOff * t * t);
-
-        if (Math.abs(denominator) < 1e-10) {
-            return 1.0;
-        }
-        return numerator / denominator;
-    }
-
     /**
      * Calcula la relación señal a ruido (SNR) teórica
      *
@@ -249,13 +926,60 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
         return bitDuration;
     }
 
+    /**
+     * Establece el número de muestras por bit
+     *
+     * @param samplesPerBit Número de muestras (debe ser > 0)
+     * @throws IllegalArgumentException si no es positivo
+     */
+    public void setSamplesPerBit(int samplesPerBit) {
+        if (samplesPerBit <= 0) {
+            throw new IllegalArgumentException("Las muestras por bit deben ser positivas");
+        }
+        this.samplesPerBit = samplesPerBit;
+    }
+
     /**
      * Obtiene el número de muestras por bit
      *
      * @return Número de muestras
      */
+    @Override
     public int getSamplesPerBit() {
-        return SAMPLES_PER_BIT;
+        return samplesPerBit;
+    }
+
+    /**
+     * Establece la forma del pulso de cada símbolo
+     *
+     * @param pulseShape RC, RRC, o null para símbolos rectangulares
+     */
+    public void setPulseShape(PulseShaper.Shape pulseShape) {
+        this.pulseShape = pulseShape;
+    }
+
+    /**
+     * @return Forma del pulso, o null si los símbolos son rectangulares
+     */
+    public PulseShaper.Shape getPulseShape() {
+        return pulseShape;
+    }
+
+    /**
+     * Establece el factor de roll-off del pulso
+     *
+     * @param rollOff Factor entre 0 (banda mínima) y 1 (transición más suave)
+     * @throws IllegalArgumentException si está fuera de [0, 1]
+     */
+    public void setRollOff(double rollOff) {
+        if (!(rollOff >= 0 && rollOff <= 1)) {
+            throw new IllegalArgumentException("El roll-off debe estar entre 0 y 1");
+        }
+        this.rollOff = rollOff;
+    }
+
+    public double getRollOff() {
+        return rollOff;
     }
 
     // ==================== IMPLEMENTACIONES POR DEFECTO ====================
@@ -280,9 +1004,9 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
         if (!isValidBinaryString(input)) {
             return false;
         }
-        // Verificar longitud razonable
-        return input.length() >= getMinimumInputLength() &&
-                input.length() <= getMaximumInputLength();
+        // Verificar longitud mínima; getMaximumInputLength() es solo una
+        // recomendación de visualización (ver isLargePayload)
+        return input.length() >= getMinimumInputLength();
     }
 
     @Override
@@ -292,7 +1016,7 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
 
     @Override
     public int getMaximumInputLength() {
-        return 32; // Máximo 32 bits para buena visualización
+        return 32; // Máximo 32 bits recomendado para buena visualización
     }
 
     @Override
@@ -300,14 +1024,17 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
         return Map.of(
                 "carrierFrequency", "Frecuencia de la portadora (Hz)",
                 "amplitude", "Amplitud de la señal",
-                "bitDuration", "Duración de cada bit (s)"
+                "bitDuration", "Duración de cada bit (s)",
+                "samplesPerBit", "Muestras por bit (resolución)",
+                "pulseShape", "Forma del pulso: NONE (rectangular), RC o RRC",
+                "rollOff", "Factor de roll-off del pulso (0 a 1)"
         );
     }
 
     @Override
     public double calculateBitRate(double symbolRate) {
-        // Para modulación binaria simple (ASK, FSK, BPSK)
-        return symbolRate; // 1 bit por símbolo
+        // log2(M) bits por símbolo (1 en ASK, FSK y BPSK)
+        return symbolRate * getBitsPerSymbol();
     }
 
     @Override
@@ -323,17 +1050,17 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
      * @return Ancho de banda mínimo en Hz
      */
     protected double calculateNyquistBandwidth() {
-        return calculateBitRate() / 2.0;
+        return calculateBaudRate() / 2.0;
     }
 
     /**
      * Valida que la frecuencia de la portadora sea suficientemente alta
-     * Se recomienda que fc >= 2 * bitRate
+     * Se recomienda que fc >= 2 * baudRate
      *
      * @return true si la frecuencia es válida
      */
     protected boolean validateCarrierFrequency() {
-        return carrierFrequency >= 2 * calculateBitRate();
+        return carrierFrequency >= 2 * calculateBaudRate();
     }
 
     /**
@@ -349,7 +1076,7 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
                 "Baud Rate", String.format("%.2f baudios", calculateBaudRate()),
                 "Ancho de Banda Nyquist", String.format("%.2f Hz", calculateNyquistBandwidth()),
                 "Energía por Bit", String.format("%.4f J", calculateEnergyPerBit()),
-                "Muestras por Bit", SAMPLES_PER_BIT
+                "Muestras por Bit", samplesPerBit
         );
     }
 
@@ -379,6 +1106,28 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
         return 0.5 * erfc(Math.sqrt(ebNoLinear));
     }
 
+    /**
+     * Probabilidad de error de bit teórica de esta técnica en canal AWGN
+     * con recepción óptima (ver createDemodulator)
+     * Por defecto la curva de BPSK/QPSK; cada técnica la ajusta.
+     *
+     * @param ebN0Db Relación Eb/N0 en dB
+     * @return Probabilidad de error de bit
+     */
+    public double getTheoreticalBER(double ebN0Db) {
+        return calculateBER(ebN0Db);
+    }
+
+    /**
+     * Función Q: probabilidad de que una normal estándar supere x
+     *
+     * @param x Valor de entrada
+     * @return Q(x) = erfc(x / √2) / 2
+     */
+    protected double qFunction(double x) {
+        return 0.5 * erfc(x / Math.sqrt(2.0));
+    }
+
     /**
      * Función complementaria de error (erfc)
      *
@@ -403,16 +1152,23 @@ public abstract class DigitalToAnalogGenerator implements IGenerator {
 
     /**
      * Genera ruido blanco gaussiano aditivo (AWGN)
+     * Las muestras salen de un GaussianNoise propio del generador, así
+     * que la secuencia es reproducible (ver setNoiseSeed).
      *
      * @param mean Media del ruido
      * @param stdDev Desviación estándar
      * @return Muestra de ruido
      */
     protected double generateAWGN(double mean, double stdDev) {
-        // Método Box-Muller para generar ruido gaussiano
-        double u1 = Math.random();
-        double u2 = Math.random();
-        double z0 = Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
-        return mean + stdDev * z0;
+        return mean + stdDev * noise.next();
+    }
+
+    /**
+     * Reinicia el generador de ruido con una semilla
+     *
+     * @param seed Semilla: la misma semilla produce el mismo ruido
+     */
+    public void setNoiseSeed(long seed) {
+        this.noise = new GaussianNoise(seed);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,34 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Demodulador no coherente de FSK binaria
+ *
+ * Mide la energía de cada símbolo en los dos tonos: correlaciona con el
+ * coseno y el seno de cada frecuencia y compara I² + Q². No depende de la
+ * fase de la señal recibida.
+ */
+public class FSKDemodulator extends Demodulator {
+
+    /**
+     * Constructor
+     *
+     * @param lowCosine cos(ω0 t) del tono del bit '0'
+     * @param lowSine sin(ω0 t)
+     * @param highCosine cos(ω1 t) del tono del bit '1'
+     * @param highSine sin(ω1 t)
+     * @param output Destino de los bits recuperados
+     */
+    public FSKDemodulator(double[] lowCosine, double[] lowSine, double[] highCosine, double[] highSine,
+                          IntConsumer output) {
+        super(new double[][]{lowCosine, lowSine, highCosine, highSine}, 1, output);
+    }
+
+    @Override
+    protected int decide(double[] correlations) {
+        double low = correlations[0] * correlations[0] + correlations[1] * correlations[1];
+        double high = correlations[2] * correlations[2] + correlations[3] * correlations[3];
+        return high > low ? 1 : 0;
+    }
+}
@@ -1,9 +1,8 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Frequency Shift Keying (FSK)
@@ -12,7 +11,9 @@ import java.util.Map;
  * Bit 1 = frecuencia alta (f2)
  * Usado en módems y transmisión de datos
  *
- * Implementa continuidad de fase para evitar discontinuidades en la señal
+ * Implementa continuidad de fase para evitar discontinuidades en la señal:
+ * cada frecuencia se ajusta a un número entero de ciclos por bit, así que
+ * todo bit termina en fase 0 y el siguiente empieza sin salto
  */
 public class FSKGenerator extends DigitalToAnalogGenerator {
     private double frequencyLow;   // f1 para bit '0'
@@ -25,12 +26,8 @@ public class FSKGenerator extends DigitalToAnalogGenerator {
     }
 
     @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
+    protected void applyParameters(Map<String, Object> params) {
+        super.applyParameters(params);
 
         // Parámetros opcionales
         if (params != null) {
@@ -46,41 +43,64 @@ public class FSKGenerator extends DigitalToAnalogGenerator {
                 frequencyLow = fc * 0.6;   // 60% de fc para bit '0'
                 frequencyHigh = fc * 1.4;  // 140% de fc para bit '1'
             }
-            if (params.containsKey("amplitude")) {
-                amplitude = (Double) params.get("amplitude");
-            }
-            if (params.containsKey("bitDuration")) {
-                bitDuration = (Double) params.get("bitDuration");
-            }
         }
+    }
 
-        double time = 0;
+    @Override
+    protected double symbolSample(int symbol, double localTime) {
+        // Cada bit empieza en fase 0
+        return amplitude * Math.sin(toneOmega(symbol) * localTime);
+    }
 
+    /**
+     * FSK no es lineal en (I, Q): los símbolos se mantienen rectangulares
+     */
+    @Override
+    protected boolean supportsPulseShaping() {
+        return false;
+    }
+
+    /**
+     * Demodulador no coherente: compara la energía de cada tono
+     */
+    @Override
+    public Demodulator createDemodulator(IntConsumer output) {
+        double omegaLow = toneOmega(0);
+        double omegaHigh = toneOmega(1);
+        return new FSKDemodulator(reference(omegaLow, false), reference(omegaLow, true),
+                reference(omegaHigh, false), reference(omegaHigh, true), output);
+    }
+
+    /**
+     * Frecuencia angular del tono de un bit, ajustada a ciclos enteros por bit
+     */
+    private double toneOmega(int bit) {
         // Calcular ciclos enteros por bit para cada frecuencia
         int cyclesLow = Math.max(1, (int) Math.round(frequencyLow * bitDuration));
         int cyclesHigh = Math.max(2, (int) Math.round(frequencyHigh * bitDuration));
         // Asegurar que las frecuencias sean distinguibles
         if (cyclesLow >= cyclesHigh) cyclesHigh = cyclesLow + 1;
 
-        double omegaLow = 2 * Math.PI * cyclesLow / bitDuration;
-        double omegaHigh = 2 * Math.PI * cyclesHigh / bitDuration;
-
-        for (char bit : input.toCharArray()) {
-            // Seleccionar frecuencia ajustada según el bit
-            double omega = (bit == '1') ? omegaHigh : omegaLow;
-
-            // Generar onda sinusoidal - cada bit empieza en fase 0
-            for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-                double globalTime = time + (i / (double) SAMPLES_PER_BIT) * bitDuration;
-                double localTime = (i / (double) SAMPLES_PER_BIT) * bitDuration;
-                double y = amplitude * Math.sin(omega * localTime);
-                data.add(new SignalData(globalTime, y));
-            }
+        // Seleccionar frecuencia ajustada según el bit
+        return 2 * Math.PI * ((bit == 1) ? cyclesHigh : cyclesLow) / bitDuration;
+    }
 
-            time += bitDuration;
-        }
+    @Override
+    protected double[] getTemplateKey() {
+        double[] key = super.getTemplateKey();
+        double[] extended = Arrays.copyOf(key, key.length + 2);
+        extended[key.length] = frequencyLow;
+        extended[key.length + 1] = frequencyHigh;
+        return extended;
+    }
 
-        return data;
+    /**
+     * BER de FSK binaria ortogonal no coherente: e^(-Eb/2N0) / 2
+     */
+    @Override
+    public double getTheoreticalBER(double ebN0Db) {
+        double ebN0 = Math.pow(10, ebN0Db / 10.0);
+        return 0.5 * Math.exp(-ebN0 / 2.0);
     }
 
     @Override
@@ -0,0 +1,131 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Gaussian Minimum Shift Keying (GMSK)
+ * MSK cuyo pulso de frecuencia pasa antes por un filtro gaussiano: la fase
+ * cambia suavemente y el espectro es mucho más angosto, a cambio de algo de
+ * interferencia entre bits vecinos. Es la modulación de GSM (BT = 0.3)
+ *
+ * El pulso de frecuencia (rectángulo de un bit filtrado con ancho de banda
+ * B·Tb = "bandwidthTime") se integra en forma cerrada y se trunca a los L
+ * bits vecinos donde es apreciable; las trayectorias de fase resultantes
+ * se precalculan en ContinuousPhaseGenerator.
+ */
+public class GMSKGenerator extends ContinuousPhaseGenerator {
+
+    /** Producto ancho de banda-tiempo de bit por defecto (GSM) */
+    public static final double DEFAULT_BANDWIDTH_TIME = 0.3;
+
+    private double bandwidthTime;
+
+    // Pulso de fase de bandwidthTime: constante del gaussiano, memoria y normalización
+    private double scale;
+    private int memory;
+    private double start;
+    private double span;
+
+    public GMSKGenerator() {
+        super();
+        setBandwidthTime(DEFAULT_BANDWIDTH_TIME);
+    }
+
+    @Override
+    protected void applyParameters(Map<String, Object> params) {
+        super.applyParameters(params);
+        if (params != null && params.containsKey("bandwidthTime")) {
+            setBandwidthTime((Double) params.get("bandwidthTime"));
+        }
+    }
+
+    /**
+     * El pulso de frecuencia es ½·[Q(c·(t - 1)) - Q(c·t)], c = 2π·BT/√ln2;
+     * su integral es ½·[F(c·(t - 1)) - F(c·t)] / c con F(x) = x·Q(x) - e^(-x²/2)/√(2π)
+     */
+    @Override
+    protected double phasePulse(double t) {
+        if (t <= -memory) {
+            return 0.0;
+        }
+        if (t >= memory + 1) {
+            return Math.PI / 2;
+        }
+        return Math.PI / 2 * (integral(t) - start) / span;
+    }
+
+    private double integral(double t) {
+        return (antiderivative(scale * (t - 1)) - antiderivative(scale * t)) / scale;
+    }
+
+    private double antiderivative(double x) {
+        return x * qFunction(x) - Math.exp(-x * x / 2) / Math.sqrt(2 * Math.PI);
+    }
+
+    @Override
+    protected int getMemory() {
+        return memory;
+    }
+
+    @Override
+    protected double[] getTemplateKey() {
+        double[] key = super.getTemplateKey();
+        double[] extended = Arrays.copyOf(key, key.length + 1);
+        extended[key.length] = bandwidthTime;
+        return extended;
+    }
+
+    /**
+     * Establece el producto ancho de banda-tiempo de bit del filtro gaussiano
+     * Valores menores angostan el espectro y alargan la memoria (L = ⌈3σ⌉ bits).
+     *
+     * @param bandwidthTime B·Tb entre 0.1 y 1
+     * @throws IllegalArgumentException si está fuera de [0.1, 1]
+     */
+    public void setBandwidthTime(double bandwidthTime) {
+        if (!(bandwidthTime >= 0.1 && bandwidthTime <= 1)) {
+            throw new IllegalArgumentException("BT debe estar entre 0.1 y 1");
+        }
+        this.bandwidthTime = bandwidthTime;
+        this.scale = 2 * Math.PI * bandwidthTime / Math.sqrt(Math.log(2));
+        double sigma = 1 / scale; // Desviación del gaussiano en bits
+        this.memory = (int) Math.max(1, Math.ceil(3 * sigma));
+        this.start = integral(-memory);
+        this.span = integral(memory + 1) - start;
+    }
+
+    public double getBandwidthTime() {
+        return bandwidthTime;
+    }
+
+    /**
+     * BER coherente aproximada: Q(√(2α · Eb/N0)), con α ≈ 0.68 en BT = 0.3
+     * interpolado linealmente hasta 1 (el valor de MSK) al crecer BT
+     */
+    @Override
+    public double getTheoreticalBER(double ebN0Db) {
+        double ebN0 = Math.pow(10, ebN0Db / 10.0);
+        double alpha = Math.min(1.0, 0.68 + (bandwidthTime - 0.3) * 0.8);
+        return qFunction(Math.sqrt(2 * alpha * ebN0));
+    }
+
+    @Override
+    public Map<String, String> getConfigurableParameters() {
+        Map<String, String> parameters = new LinkedHashMap<>(super.getConfigurableParameters());
+        parameters.put("bandwidthTime", "Producto BT del filtro gaussiano (0.1 a 1, GSM = 0.3)");
+        return parameters;
+    }
+
+    @Override
+    public String getName() {
+        return "GMSK (Gaussian Minimum Shift Keying)";
+    }
+
+    @Override
+    public String getDescription() {
+        return "MSK con pulso de frecuencia gaussiano (BT = " + bandwidthTime
+                + "): fase suave y espectro angosto. Usado en GSM";
+    }
+}
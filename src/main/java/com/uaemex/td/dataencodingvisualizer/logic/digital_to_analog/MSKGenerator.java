@@ -0,0 +1,35 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+/**
+ * Minimum Shift Keying (MSK)
+ * FSK de fase continua con la separación mínima entre tonos (1/(2·Tb)):
+ * Bit 1 = la fase sube 90° a lo largo del bit (fc + 1/(4·Tb))
+ * Bit 0 = la fase baja 90° (fc - 1/(4·Tb))
+ * La envolvente es constante y la fase nunca salta
+ *
+ * El pulso de frecuencia es rectangular de un bit, así que la fase de cada
+ * bit solo depende del bit y del cuadrante en que empieza.
+ */
+public class MSKGenerator extends ContinuousPhaseGenerator {
+
+    @Override
+    protected double phasePulse(double t) {
+        return Math.PI / 2 * Math.max(0.0, Math.min(1.0, t));
+    }
+
+    @Override
+    protected int getMemory() {
+        return 0;
+    }
+
+    @Override
+    public String getName() {
+        return "MSK (Minimum Shift Keying)";
+    }
+
+    @Override
+    public String getDescription() {
+        return "FSK de fase continua con separación mínima: bit '1' sube la fase 90°, bit '0' la baja 90°. "
+                + "Envolvente constante";
+    }
+}
@@ -0,0 +1,126 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Receptor de filtro acoplado para señales con pulsos RRC
+ *
+ * Con conformación de pulsos cada símbolo se extiende SPAN símbolos a cada
+ * lado, así que integrar un solo intervalo mezcla los vecinos. Este receptor
+ * baja la señal con cos(ωt) y sin(ωt), la filtra con el mismo pulso RRC
+ * (RRC * RRC = RC, sin interferencia entre símbolos) y toma la salida en el
+ * centro de cada símbolo.
+ *
+ * El filtro se reparte en las referencias del integrador: la muestra q del
+ * símbolo recibido j aporta a la salida del símbolo j - d con el peso
+ * p(d + q/L - 1/2), d = -SPAN..SPAN. Cada símbolo recibido produce así
+ * 2·(2·SPAN + 1) correlaciones que se suman en las salidas pendientes, y el
+ * símbolo k se decide al recibir el k + SPAN; finish() completa los últimos.
+ *
+ * Las salidas quedan en las unidades del correlador rectangular (el pulso
+ * tiene energía unitaria), así que la decisión se delega en el demodulador
+ * coherente de la técnica con sus puntos de siempre. Los primeros y los
+ * últimos SPAN símbolos solo tienen parte de su pulso dentro de la señal;
+ * su salida se divide entre la fracción de energía del pulso recibida.
+ *
+ * El pulso está truncado a ±SPAN símbolos, lo que deja una interferencia
+ * residual que crece al bajar el roll-off; el generador no construye este
+ * receptor si esa interferencia supera el margen de la constelación.
+ */
+public class MatchedFilterDemodulator extends Demodulator {
+
+    private final int span;
+    private final CoherentDemodulator slicer;
+    private final double[] energies;   // [d + span]: energía del tramo d del pulso
+    private final double totalEnergy;
+    private final double[][] pending;  // [k mod (2·span + 1)] -> {I, Q, energía recibida} del símbolo k
+    private final double[] output = new double[2];
+    private long receivedSymbols;
+
+    /**
+     * Constructor
+     *
+     * @param references references[2(d + span)] = cos(ωt)·p(d + q/L - 1/2),
+     *                   references[2(d + span) + 1] = sin(ωt)·p(d + q/L - 1/2), d = -span..span
+     * @param pulse pulse[d + span][q] = p(d + q/L - 1/2)
+     * @param slicer Demodulador coherente que decide a partir de (I, Q)
+     * @param output Destino de los bits recuperados
+     */
+    public MatchedFilterDemodulator(double[][] references, double[][] pulse, CoherentDemodulator slicer,
+                                    IntConsumer output) {
+        super(references, slicer.getBitsPerSymbol(), output);
+        if (references.length != 2 * pulse.length || pulse.length % 2 == 0) {
+            throw new IllegalArgumentException("Se requieren dos referencias por cada tramo del pulso");
+        }
+        this.span = pulse.length / 2;
+        this.slicer = slicer;
+        this.energies = new double[pulse.length];
+        double total = 0.0;
+        for (int d = 0; d < pulse.length; d++) {
+            for (double weight : pulse[d]) {
+                energies[d] += weight * weight;
+            }
+            total += energies[d];
+        }
+        this.totalEnergy = total;
+        this.pending = new double[pulse.length][3];
+    }
+
+    @Override
+    protected void endSymbol(double[] correlations) {
+        receive(correlations, true);
+    }
+
+    /**
+     * Suma un símbolo recibido (o silencio después del final) en las salidas
+     * pendientes y entrega la que queda completa
+     */
+    private void receive(double[] correlations, boolean present) {
+        long received = receivedSymbols++;
+        int window = pending.length;
+        for (int d = -span; d <= span; d++) {
+            long k = received - d;
+            if (k >= 0) {
+                double[] sums = pending[(int) (k % window)];
+                sums[0] += correlations[2 * (d + span)];
+                sums[1] += correlations[2 * (d + span) + 1];
+                if (present) {
+                    sums[2] += energies[d + span];
+                }
+            }
+        }
+
+        // El símbolo received - span ya recibió todas sus contribuciones
+        long ready = received - span;
+        if (ready >= 0) {
+            double[] sums = pending[(int) (ready % window)];
+            double gain = sums[2] > 0 ? totalEnergy / sums[2] : 0.0;
+            output[0] = sums[0] * gain;
+            output[1] = sums[1] * gain;
+            deliver(decide(output), output);
+            sums[0] = 0.0;
+            sums[1] = 0.0;
+            sums[2] = 0.0;
+        }
+    }
+
+    /**
+     * Completa los últimos span símbolos como si siguiera silencio
+     * (el modulador también toma como ceros los símbolos fuera de la secuencia)
+     */
+    @Override
+    public void finish() {
+        double[] silence = new double[getReferences().length];
+        for (int n = 0; n < span; n++) {
+            receive(silence, false);
+        }
+    }
+
+    /**
+     * La decisión es la del demodulador coherente sobre (I, Q) filtrados
+     */
+    @Override
+    protected int decide(double[] correlations) {
+        return slicer.decide(correlations);
+    }
+}
@@ -1,76 +1,147 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Phase Shift Keying (PSK) - Implementación BPSK
- * Binary Phase Shift Keying (2-PSK)
- * Modula la fase de la portadora según el bit
+ * Phase Shift Keying (PSK) - BPSK, QPSK y 8-PSK
+ * Modula la fase de la portadora según el símbolo
+ * BPSK (2-PSK, por defecto):
  * Bit 0 = fase 0° (sin cambio de fase)
  * Bit 1 = fase 180° (inversión de fase)
  * Más resistente al ruido que ASK
  *
+ * Con orden M (parámetro "modulationOrder") cada símbolo transporta
+ * log2(M) bits y las M fases 2πk/M se asignan en código Gray: símbolos con
+ * fases vecinas difieren en un solo bit.
+ *
  * Implementa fase continua para una visualizacion correcta
  */
 public class PSKGenerator extends DigitalToAnalogGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
+    /** Orden de la modulación (número de fases) */
+    private int order;
 
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
+    /** Desplazamiento de fase de cada símbolo en radianes */
+    private double[] phases;
+
+    /**
+     * Constructor para BPSK
+     */
+    public PSKGenerator() {
+        this(2);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param order Número de fases: 2 (BPSK), 4 (QPSK) u 8 (8-PSK)
+     */
+    public PSKGenerator(int order) {
+        super();
+        setModulationOrder(order);
+    }
 
-        // Parámetros opcionales
-        if (params != null) {
-            if (params.containsKey("carrierFrequency")) {
-                carrierFrequency = (Double) params.get("carrierFrequency");
-            }
-            if (params.containsKey("amplitude")) {
-                amplitude = (Double) params.get("amplitude");
-            }
-            if (params.containsKey("bitDuration")) {
-                bitDuration = (Double) params.get("bitDuration");
-            }
+    @Override
+    protected void applyParameters(Map<String, Object> params) {
+        super.applyParameters(params);
+        if (params != null && params.containsKey("modulationOrder")) {
+            setModulationOrder(((Number) params.get("modulationOrder")).intValue());
         }
+    }
 
-        double time = 0;
+    @Override
+    protected double symbolSample(int symbol, double localTime) {
+        // Ciclos enteros por bit para visualizacion limpia
+        double adjustedOmega = getAdjustedOmega();
 
-        // Calcular ciclos enteros por bit para visualizacion limpia
-        int cyclesPerBit = Math.max(1, (int) Math.round(carrierFrequency * bitDuration));
-        double adjustedOmega = 2 * Math.PI * cyclesPerBit / bitDuration;
+        // BPSK:
+        // bit '0' = fase 0° (sin desplazamiento)
+        // bit '1' = fase 180° (π radianes) - senal invertida
+        double phaseShift = phases[symbol];
 
-        for (char bit : input.toCharArray()) {
-            // BPSK:
-            // bit '0' = fase 0° (sin desplazamiento)
-            // bit '1' = fase 180° (π radianes) - senal invertida
-            double phaseShift = (bit == '1') ? Math.PI : 0;
+        // Cada símbolo empieza en su fase
+        return amplitude * Math.sin(adjustedOmega * localTime + phaseShift);
+    }
 
-            // Generar onda sinusoidal - cada bit empieza en fase 0 (o 180 para bit 1)
-            for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-                double globalTime = time + (i / (double) SAMPLES_PER_BIT) * bitDuration;
-                double localTime = (i / (double) SAMPLES_PER_BIT) * bitDuration;
-                double y = amplitude * Math.sin(adjustedOmega * localTime + phaseShift);
-                data.add(new SignalData(globalTime, y));
-            }
+    @Override
+    protected int getBitsPerSymbol() {
+        return Integer.numberOfTrailingZeros(order);
+    }
 
-            time += bitDuration;
+    @Override
+    protected double[] getTemplateKey() {
+        double[] key = super.getTemplateKey();
+        double[] extended = Arrays.copyOf(key, key.length + 1);
+        extended[key.length] = order;
+        return extended;
+    }
+
+    /**
+     * Establece el orden de la modulación
+     *
+     * @param order Número de fases: 2, 4 u 8
+     * @throws IllegalArgumentException si el orden no es válido
+     */
+    public void setModulationOrder(int order) {
+        if (order != 2 && order != 4 && order != 8) {
+            throw new IllegalArgumentException("Orden de PSK inválido: " + order + " (use 2, 4 u 8)");
         }
+        double[] table = new double[order];
+        for (int symbol = 0; symbol < order; symbol++) {
+            table[symbol] = 2 * Math.PI * grayToBinary(symbol) / order;
+        }
+        this.order = order;
+        this.phases = table;
+    }
 
-        return data;
+    /**
+     * @return Número de fases
+     */
+    public int getModulationOrder() {
+        return order;
+    }
+
+    /**
+     * BER con código Gray: exacta para BPSK/QPSK, aproximación de vecinos
+     * más cercanos (2/k) · Q(√(2k · Eb/N0) · sin(π/M)) para 8-PSK
+     */
+    @Override
+    public double getTheoreticalBER(double ebN0Db) {
+        if (order <= 4) {
+            return calculateBER(ebN0Db);
+        }
+        int k = getBitsPerSymbol();
+        double ebN0 = Math.pow(10, ebN0Db / 10.0);
+        return 2.0 / k * qFunction(Math.sqrt(2.0 * k * ebN0) * Math.sin(Math.PI / order));
+    }
+
+    @Override
+    public Map<String, String> getConfigurableParameters() {
+        Map<String, String> parameters = new LinkedHashMap<>(super.getConfigurableParameters());
+        parameters.put("modulationOrder", "Número de fases: 2 (BPSK), 4 (QPSK) u 8 (8-PSK)");
+        return parameters;
     }
 
     @Override
     public String getName() {
-        return "PSK (Phase Shift Keying - BPSK)";
+        switch (order) {
+            case 2:
+                return "PSK (Phase Shift Keying - BPSK)";
+            case 4:
+                return "QPSK (Phase Shift Keying - 4-PSK)";
+            default:
+                return order + "-PSK (Phase Shift Keying)";
+        }
     }
 
     @Override
     public String getDescription() {
-        return "Modula la fase de la portadora: bit '1'=180° (señal invertida), bit '0'=0° (sin cambio). Más robusto que ASK/FSK";
+        if (order == 2) {
+            return "Modula la fase de la portadora: bit '1'=180° (señal invertida), bit '0'=0° (sin cambio). Más robusto que ASK/FSK";
+        }
+        return "Modula la fase de la portadora con " + order + " fases separadas " + (360 / order)
+                + "°. Procesa " + getBitsPerSymbol() + " bits por símbolo con código Gray";
     }
 }
@@ -0,0 +1,202 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+/**
+ * Conformador de pulsos por interpolación FIR polifásica
+ *
+ * Convierte una secuencia de amplitudes por símbolo en una señal limitada
+ * en banda: cada símbolo se multiplica por un pulso de coseno alzado (RC) o
+ * raíz de coseno alzado (RRC) centrado en la mitad de su intervalo, y los
+ * pulsos de los símbolos vecinos se suman.
+ *
+ * El filtro interpola por samplesPerSymbol, así que se descompone en una
+ * rama (fase) por muestra del símbolo: la muestra p de un símbolo solo
+ * necesita los coeficientes de la rama p por los 2·SPAN + 1 símbolos más
+ * cercanos. Los coeficientes se precalculan una vez y cada muestra de
+ * salida cuesta O(coeficientes por rama), sin multiplicar por los ceros
+ * del sobremuestreo.
+ *
+ * El pulso RC vale 1 en su centro y 0 en los centros de los demás símbolos
+ * (sin interferencia entre símbolos); el RRC está normalizado para que su
+ * convolución con sí mismo (filtro acoplado en el receptor) sea el RC.
+ */
+public final class PulseShaper {
+
+    /** Símbolos a cada lado del símbolo actual que cubre el pulso */
+    public static final int SPAN = 4;
+
+    /**
+     * Forma del pulso
+     */
+    public enum Shape {
+        /** Coseno alzado */
+        RC,
+        /** Raíz de coseno alzado */
+        RRC;
+
+        /**
+         * Lee la forma del parámetro "pulseShape"
+         *
+         * @param value Shape, su nombre ("RC", "RRC"), "NONE" o null
+         * @return Forma, o null si los símbolos son rectangulares
+         * @throws IllegalArgumentException si el valor no es una forma conocida
+         */
+        public static Shape fromParameter(Object value) {
+            if (value == null || value instanceof Shape) {
+                return (Shape) value;
+            }
+            String name = value.toString().trim().toUpperCase();
+            if (name.isEmpty() || name.equals("NONE")) {
+                return null;
+            }
+            return valueOf(name);
+        }
+    }
+
+    private final Shape shape;
+    private final double rollOff;
+    private final int samplesPerSymbol;
+    private final double[][] taps;  // [fase][k]: peso del k-ésimo símbolo de la ventana (el más antiguo primero)
+
+    /**
+     * Constructor: precalcula los coeficientes de todas las ramas
+     *
+     * @param shape Forma del pulso
+     * @param rollOff Factor de roll-off (0 a 1)
+     * @param samplesPerSymbol Muestras por símbolo (factor de interpolación)
+     * @throws IllegalArgumentException si el roll-off está fuera de [0, 1]
+     */
+    public PulseShaper(Shape shape, double rollOff, int samplesPerSymbol) {
+        if (!(rollOff >= 0 && rollOff <= 1)) {
+            throw new IllegalArgumentException("El roll-off debe estar entre 0 y 1");
+        }
+        this.shape = shape;
+        this.rollOff = rollOff;
+        this.samplesPerSymbol = samplesPerSymbol;
+
+        // La muestra p del símbolo j está a d + p/L - 1/2 símbolos del
+        // centro del símbolo j - d; la ventana va de j - SPAN a j + SPAN
+        int length = 2 * SPAN + 1;
+        this.taps = new double[samplesPerSymbol][length];
+        for (int p = 0; p < samplesPerSymbol; p++) {
+            double offset = (double) p / samplesPerSymbol - 0.5;
+            for (int k = 0; k < length; k++) {
+                int distance = SPAN - k;
+                taps[p][k] = pulse(shape, rollOff, distance + offset);
+            }
+        }
+    }
+
+    /**
+     * Valor del pulso
+     *
+     * @param shape Forma del pulso
+     * @param rollOff Factor de roll-off (0 a 1)
+     * @param t Tiempo desde el centro del pulso en periodos de símbolo
+     * @return Amplitud del pulso
+     */
+    public static double pulse(Shape shape, double rollOff, double t) {
+        return shape == Shape.RC ? raisedCosine(rollOff, t) : rootRaisedCosine(rollOff, t);
+    }
+
+    private static double raisedCosine(double beta, double t) {
+        if (beta > 0 && Math.abs(Math.abs(2 * beta * t) - 1) < 1e-9) {
+            // Singularidad en t = ±1/(2β)
+            return Math.PI / 4 * sinc(1 / (2 * beta));
+        }
+        double x = 2 * beta * t;
+        return sinc(t) * Math.cos(Math.PI * beta * t) / (1 - x * x);
+    }
+
+    private static double rootRaisedCosine(double beta, double t) {
+        if (Math.abs(t) < 1e-9) {
+            return 1 - beta + 4 * beta / Math.PI;
+        }
+        if (beta > 0 && Math.abs(Math.abs(4 * beta * t) - 1) < 1e-9) {
+            // Singularidad en t = ±1/(4β)
+            double angle = Math.PI / (4 * beta);
+            return beta / Math.sqrt(2)
+                    * ((1 + 2 / Math.PI) * Math.sin(angle) + (1 - 2 / Math.PI) * Math.cos(angle));
+        }
+        double x = 4 * beta * t;
+        double numerator = Math.sin(Math.PI * t * (1 - beta)) + x * Math.cos(Math.PI * t * (1 + beta));
+        return numerator / (Math.PI * t * (1 - x * x));
+    }
+
+    private static double sinc(double t) {
+        return Math.abs(t) < 1e-12 ? 1.0 : Math.sin(Math.PI * t) / (Math.PI * t);
+    }
+
+    /**
+     * Crea un canal de interpolación en flujo con la ventana en ceros
+     *
+     * @return Nuevo interpolador que comparte los coeficientes
+     */
+    public Interpolator newInterpolator() {
+        return new Interpolator();
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    public double getRollOff() {
+        return rollOff;
+    }
+
+    public int getSamplesPerSymbol() {
+        return samplesPerSymbol;
+    }
+
+    /**
+     * @return Retardo en símbolos: la salida de un símbolo se puede
+     *         calcular cuando ya se recibieron los SPAN símbolos siguientes
+     */
+    public int getDelay() {
+        return SPAN;
+    }
+
+    /**
+     * Interpolador de un canal (p. ej. la componente I o Q)
+     *
+     * Guarda los últimos 2·SPAN + 1 símbolos en un búfer circular duplicado,
+     * de modo que la ventana siempre es un tramo contiguo del arreglo.
+     */
+    public final class Interpolator {
+
+        private final int length = 2 * SPAN + 1;
+        private final double[] window = new double[2 * length];
+        private int next;  // Posición del siguiente símbolo (y del más antiguo de la ventana)
+
+        private Interpolator() {
+        }
+
+        /**
+         * Agrega el siguiente símbolo a la ventana
+         *
+         * @param symbol Amplitud del símbolo
+         */
+        public void push(double symbol) {
+            window[next] = symbol;
+            window[next + length] = symbol;
+            next = next + 1 == length ? 0 : next + 1;
+        }
+
+        /**
+         * Calcula las samplesPerSymbol muestras del símbolo central de la
+         * ventana (el que se agregó hace getDelay() llamadas a push)
+         *
+         * @param output Arreglo destino
+         * @param offset Posición de la primera muestra
+         */
+        public void render(double[] output, int offset) {
+            for (int p = 0; p < samplesPerSymbol; p++) {
+                double[] branch = taps[p];
+                double sum = 0.0;
+                for (int k = 0; k < length; k++) {
+                    sum += branch[k] * window[next + k];
+                }
+                output[offset + p] = sum;
+            }
+        }
+    }
+}
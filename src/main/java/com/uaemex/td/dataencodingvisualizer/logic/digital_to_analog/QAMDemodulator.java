@@ -0,0 +1,58 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Demodulador de M-QAM cuadrada con decisión por eje
+ *
+ * La constelación es una rejilla: cada eje (I y Q) tiene L = 2^(bits/2)
+ * niveles equiespaciados asignados en código Gray. En lugar de comparar
+ * con los M puntos, cada proyección se normaliza con la esquina de la
+ * constelación (símbolo 0, niveles +1, +1) y se redondea al nivel más cercano.
+ */
+public class QAMDemodulator extends CoherentDemodulator {
+
+    private final int axisBits;
+    private final int levels;
+    private final double cornerI;
+    private final double cornerQ;
+
+    /**
+     * Constructor
+     *
+     * @param cosine Referencia en fase, cos(ωt)
+     * @param sine Referencia en cuadratura, sin(ωt)
+     * @param pointsI Proyección ideal de cada símbolo sobre cosine
+     * @param pointsQ Proyección ideal de cada símbolo sobre sine
+     * @param bitsPerSymbol Bits por símbolo (par)
+     * @param output Destino de los bits recuperados
+     */
+    public QAMDemodulator(double[] cosine, double[] sine, double[] pointsI, double[] pointsQ,
+                          int bitsPerSymbol, IntConsumer output) {
+        super(cosine, sine, pointsI, pointsQ, bitsPerSymbol, output);
+        if (bitsPerSymbol % 2 != 0) {
+            throw new IllegalArgumentException("La QAM cuadrada requiere un número par de bits por símbolo");
+        }
+        this.axisBits = bitsPerSymbol / 2;
+        this.levels = 1 << axisBits;
+        this.cornerI = pointsI[0];
+        this.cornerQ = pointsQ[0];
+    }
+
+    @Override
+    protected int slice(double inPhase, double quadrature) {
+        int codeI = axisCode(inPhase / cornerI);
+        int codeQ = axisCode(quadrature / cornerQ);
+        return (codeI << axisBits) | codeQ;
+    }
+
+    /**
+     * Código Gray del nivel más cercano a una proyección normalizada
+     * El nivel j vale (L - 1 - 2j) / (L - 1), de +1 (j = 0) a -1 (j = L - 1).
+     */
+    private int axisCode(double normalized) {
+        long index = Math.round((levels - 1) * (1.0 - normalized) / 2.0);
+        int j = (int) Math.max(0, Math.min(levels - 1, index));
+        return j ^ (j >>> 1);
+    }
+}
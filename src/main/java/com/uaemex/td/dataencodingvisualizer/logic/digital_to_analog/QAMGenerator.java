@@ -1,98 +1,167 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_analog;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Quadrature Amplitude Modulation (QAM)
  * Combina modulación de amplitud y fase
- * Procesa 2 bits a la vez (4-QAM)
+ * Por defecto procesa 2 bits a la vez (4-QAM)
  * 00, 01, 10, 11 -> diferentes combinaciones de amplitud y fase
  *
+ * Con orden M = 16, 64 o 256 (parámetro "modulationOrder") cada símbolo
+ * transporta log2(M) bits: la primera mitad elige el nivel de la componente
+ * en fase (I) y la segunda el de la componente en cuadratura (Q). Los
+ * niveles de cada eje se asignan en código Gray, así que puntos vecinos de
+ * la constelación difieren en un solo bit.
+ *
  * Implementa fase continua para una visualizacion correcta
  */
 public class QAMGenerator extends DigitalToAnalogGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
+    /** Orden de la modulación (número de puntos de la constelación) */
+    private int order;
+
+    // Constelación: [símbolo] -> componente normalizada a ±1 en las esquinas
+    private double[] inPhase;
+    private double[] quadrature;
+
+    /**
+     * Constructor para 4-QAM
+     */
+    public QAMGenerator() {
+        this(4);
+    }
 
-        if (!isValidBinaryString(input)) {
-            return data;
+    /**
+     * Constructor
+     *
+     * @param order Puntos de la constelación: 4, 16, 64 o 256
+     */
+    public QAMGenerator(int order) {
+        super();
+        setModulationOrder(order);
+    }
+
+    @Override
+    protected void applyParameters(Map<String, Object> params) {
+        super.applyParameters(params);
+        if (params != null && params.containsKey("modulationOrder")) {
+            setModulationOrder(((Number) params.get("modulationOrder")).intValue());
         }
+    }
+
+    @Override
+    protected double symbolSample(int symbol, double localTime) {
+        // Ciclos enteros por bit para visualizacion limpia
+        double adjustedOmega = getAdjustedOmega();
+
+        // Mapeo por tabla (escalado por amplitud); primer bit en la posición más significativa
+        double scaleFactor = amplitude * 0.5;
+        double amplitudeI = scaleFactor * inPhase[symbol];
+        double amplitudeQ = scaleFactor * quadrature[symbol];
+
+        // Señal QAM: I*cos(ωt) + Q*sin(ωt) - cada simbolo empieza en fase 0
+        double inPhaseComponent = amplitudeI * Math.cos(adjustedOmega * localTime);
+        double quadratureComponent = amplitudeQ * Math.sin(adjustedOmega * localTime);
+        return inPhaseComponent + quadratureComponent;
+    }
+
+    /**
+     * Demodulador coherente con decisión por eje (ver QAMDemodulator)
+     */
+    @Override
+    public Demodulator createDemodulator(IntConsumer output) {
+        double omega = getAdjustedOmega();
+        double[] cosine = reference(omega, false);
+        double[] sine = reference(omega, true);
+        double[][] points = projectTemplates(cosine, sine);
+        return matchPulseShape(new QAMDemodulator(cosine, sine, points[0], points[1],
+                getBitsPerSymbol(), output), output);
+    }
 
-        if (params != null) {
-            if (params.containsKey("carrierFrequency")) {
-                carrierFrequency = (Double) params.get("carrierFrequency");
-            }
-            if (params.containsKey("amplitude")) {
-                amplitude = (Double) params.get("amplitude");
-            }
-            if (params.containsKey("bitDuration")) {
-                bitDuration = (Double) params.get("bitDuration");
-            }
+    @Override
+    protected int getBitsPerSymbol() {
+        return Integer.numberOfTrailingZeros(order); // El último símbolo se rellena con ceros
+    }
+
+    @Override
+    protected double[] getTemplateKey() {
+        double[] key = super.getTemplateKey();
+        double[] extended = Arrays.copyOf(key, key.length + 1);
+        extended[key.length] = order;
+        return extended;
+    }
+
+    /**
+     * Establece el orden de la modulación y construye la constelación
+     *
+     * @param order Puntos de la constelación: 4, 16, 64 o 256
+     * @throws IllegalArgumentException si el orden no es válido
+     */
+    public void setModulationOrder(int order) {
+        if (order != 4 && order != 16 && order != 64 && order != 256) {
+            throw new IllegalArgumentException("Orden de QAM inválido: " + order + " (use 4, 16, 64 o 256)");
         }
+        int axisBits = Integer.numberOfTrailingZeros(order) / 2;
+        int levels = 1 << axisBits;
 
-        double time = 0;
-
-        // Calcular ciclos enteros por bit para visualizacion limpia
-        int cyclesPerBit = Math.max(1, (int) Math.round(carrierFrequency * bitDuration));
-        double adjustedOmega = 2 * Math.PI * cyclesPerBit / bitDuration;
-
-        // Procesar bits de 2 en 2 (4-QAM)
-        for (int bitIdx = 0; bitIdx < input.length(); bitIdx += 2) {
-            String dibits;
-            if (bitIdx + 1 < input.length()) {
-                dibits = input.substring(bitIdx, bitIdx + 2);
-            } else {
-                dibits = input.substring(bitIdx) + "0"; // Padding si es impar
-            }
-
-            // Mapeo 4-QAM (escalado por amplitud)
-            double amplitudeI, amplitudeQ;
-            double scaleFactor = amplitude * 0.5;
-            switch (dibits) {
-                case "00":
-                    amplitudeI = scaleFactor; amplitudeQ = scaleFactor;
-                    break;
-                case "01":
-                    amplitudeI = scaleFactor; amplitudeQ = -scaleFactor;
-                    break;
-                case "10":
-                    amplitudeI = -scaleFactor; amplitudeQ = scaleFactor;
-                    break;
-                case "11":
-                    amplitudeI = -scaleFactor; amplitudeQ = -scaleFactor;
-                    break;
-                default:
-                    amplitudeI = 0; amplitudeQ = 0;
-            }
-
-            // Generar señal QAM: I*cos(ωt) + Q*sin(ωt) - cada simbolo empieza en fase 0
-            for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-                double globalTime = time + (i / (double) SAMPLES_PER_BIT) * bitDuration;
-                double localTime = (i / (double) SAMPLES_PER_BIT) * bitDuration;
-                double inPhase = amplitudeI * Math.cos(adjustedOmega * localTime);
-                double quadrature = amplitudeQ * Math.sin(adjustedOmega * localTime);
-                double y = inPhase + quadrature;
-                data.add(new SignalData(globalTime, y));
-            }
-
-            time += bitDuration;
+        double[] tableI = new double[order];
+        double[] tableQ = new double[order];
+        for (int symbol = 0; symbol < order; symbol++) {
+            tableI[symbol] = axisLevel(symbol >>> axisBits, levels);
+            tableQ[symbol] = axisLevel(symbol & (levels - 1), levels);
         }
+        this.order = order;
+        this.inPhase = tableI;
+        this.quadrature = tableQ;
+    }
+
+    /**
+     * Nivel de un eje para un código Gray: el código 0 es el nivel +1 y
+     * los siguientes bajan en pasos iguales hasta -1
+     */
+    private static double axisLevel(int gray, int levels) {
+        return (double) (levels - 1 - 2 * grayToBinary(gray)) / (levels - 1);
+    }
+
+    /**
+     * @return Puntos de la constelación
+     */
+    public int getModulationOrder() {
+        return order;
+    }
+
+    /**
+     * BER aproximada de M-QAM cuadrada con código Gray:
+     * (4/k) · (1 - 1/√M) · Q(√(3k · Eb/N0 / (M - 1)))
+     */
+    @Override
+    public double getTheoreticalBER(double ebN0Db) {
+        int k = getBitsPerSymbol();
+        double ebN0 = Math.pow(10, ebN0Db / 10.0);
+        return 4.0 / k * (1.0 - 1.0 / Math.sqrt(order)) * qFunction(Math.sqrt(3.0 * k * ebN0 / (order - 1)));
+    }
 
-        return data;
+    @Override
+    public Map<String, String> getConfigurableParameters() {
+        Map<String, String> parameters = new LinkedHashMap<>(super.getConfigurableParameters());
+        parameters.put("modulationOrder", "Puntos de la constelación: 4, 16, 64 o 256");
+        return parameters;
     }
 
     @Override
     public String getName() {
-        return "QAM (Quadrature Amplitude Modulation)";
+        if (order == 4) {
+            return "QAM (Quadrature Amplitude Modulation)";
+        }
+        return order + "-QAM (Quadrature Amplitude Modulation)";
     }
 
     @Override
     public String getDescription() {
-        return "Combina amplitud y fase. Procesa 2 bits simultáneamente (4-QAM)";
+        return "Combina amplitud y fase. Procesa " + getBitsPerSymbol() + " bits simultáneamente (" + order + "-QAM)";
     }
 }
@@ -1,9 +1,6 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Alternate Mark Inversion (AMI) - También conocido como Bipolar
@@ -13,38 +10,26 @@ import java.util.Map;
  */
 public class AMIGenerator extends LineCodingGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
-
-        double time = 0;
-        boolean nextPositive = true; // Próximo '1' será positivo
-
-        for (char bit : input.toCharArray()) {
-            double level;
+    /**
+     * Estados: polaridad del próximo '1'
+     * 0 = positiva (inicial), 1 = negativa
+     */
+    private static final LineCodeTransducer TRANSDUCER = LineCodeTransducer.builder(2)
+            .initial(0)                // El primer pulso será positivo
+            .on(0, 0, 0.0, 0)          // Bit 0: voltaje cero
+            .on(0, 1, 1.0, 1)          // Bit 1: pulso y alternar polaridad
+            .on(1, 0, 0.0, 1)
+            .on(1, 1, -1.0, 0)
+            .build();
 
-            if (bit == '0') {
-                // Bit 0: voltaje cero
-                level = 0.0;
-            } else {
-                // Bit 1: alternar entre +1 y -1
-                level = nextPositive ? 1.0 : -1.0;
-                nextPositive = !nextPositive; // Alternar para el próximo '1'
-            }
-
-            // Crear segmento horizontal para este bit
-            for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-                double x = time + (i / (double) SAMPLES_PER_BIT);
-                data.add(new SignalData(x, level));
-            }
-            time++;
-        }
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return TRANSDUCER;
+    }
 
-        return data;
+    @Override
+    public LineDecoder createDecoder(IntConsumer output) {
+        return new BipolarDecoder(samplesPerBit, output, 1, BipolarDecoder.Substitution.NONE);
     }
 
     @Override
@@ -1,9 +1,6 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Bipolar 8-Zero Substitution (B8ZS)
@@ -15,95 +12,32 @@ import java.util.Map;
  */
 public class B8ZSGenerator extends LineCodingGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
-
-        double time = 0;
-        boolean lastPolarityPositive = true;
-        List<Character> bits = new ArrayList<>();
-
-        // Convertir string a lista
-        for (char c : input.toCharArray()) {
-            bits.add(c);
-        }
-
-        int i = 0;
-        while (i < bits.size()) {
-            // Detectar 8 ceros consecutivos
-            if (i + 7 < bits.size() && allZeros(bits, i, 8)) {
-                // Aplicar sustitución B8ZS: 000VB0VB
-                double[] pattern = new double[8];
-
-                // Primeros 3 bits: 000
-                pattern[0] = 0;
-                pattern[1] = 0;
-                pattern[2] = 0;
-
-                // V (Violación): MISMO signo que el último pulso
-                pattern[3] = lastPolarityPositive ? 1.0 : -1.0;
-
-                // B (Bipolar normal): signo OPUESTO
-                pattern[4] = lastPolarityPositive ? -1.0 : 1.0;
-
-                // 0
-                pattern[5] = 0;
-
-                // V (Violación): MISMO signo que el último pulso
-                pattern[6] = lastPolarityPositive ? 1.0 : -1.0;
+    /**
+     * Estados: polaridad del próximo pulso
+     * 0 = positiva (inicial), 1 = negativa
+     * Cada bloque de 8 ceros se sustituye por 000VB0VB; el patrón termina
+     * con la polaridad del último pulso, así que el estado no cambia
+     */
+    private static final LineCodeTransducer TRANSDUCER = LineCodeTransducer.builder(2)
+            .initial(0)                // El primer pulso será positivo
+            .on(0, 0, 0.0, 0)          // AMI normal
+            .on(0, 1, 1.0, 1)
+            .on(1, 0, 0.0, 1)
+            .on(1, 1, -1.0, 0)
+            .substitute(8, new double[][]{
+                    {0, 0, 0, -1, 1, 0, 1, -1},   // Último pulso negativo
+                    {0, 0, 0, 1, -1, 0, -1, 1}    // Último pulso positivo
+            }, new int[]{0, 1})
+            .build();
 
-                // B (Bipolar normal): signo OPUESTO
-                pattern[7] = lastPolarityPositive ? -1.0 : 1.0;
-
-                // Actualizar polaridad
-                lastPolarityPositive = !lastPolarityPositive;
-
-                // Añadir todo el patrón
-                for (double level : pattern) {
-                    addBitSegment(data, time, level);
-                    time++;
-                }
-                i += 8; // Saltar los 8 bits procesados
-            } else {
-                // AMI normal
-                char bit = bits.get(i);
-                double level;
-
-                if (bit == '0') {
-                    level = 0.0;
-                } else {
-                    // Bit 1: alternar polaridad
-                    level = lastPolarityPositive ? 1.0 : -1.0;
-                    lastPolarityPositive = !lastPolarityPositive;
-                }
-
-                addBitSegment(data, time, level);
-                time++;
-                i++;
-            }
-        }
-
-        return data;
-    }
-
-    private boolean allZeros(List<Character> bits, int start, int count) {
-        for (int i = 0; i < count; i++) {
-            if (start + i >= bits.size() || bits.get(start + i) != '0') {
-                return false;
-            }
-        }
-        return true;
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return TRANSDUCER;
     }
 
-    private void addBitSegment(List<SignalData> data, double time, double level) {
-        for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-            double x = time + (i / (double) SAMPLES_PER_BIT);
-            data.add(new SignalData(x, level));
-        }
+    @Override
+    public LineDecoder createDecoder(IntConsumer output) {
+        return new BipolarDecoder(samplesPerBit, output, 1, BipolarDecoder.Substitution.B8ZS);
     }
 
     @Override
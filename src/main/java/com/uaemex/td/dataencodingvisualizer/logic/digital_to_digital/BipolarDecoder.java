@@ -0,0 +1,118 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Decodificador bipolar: AMI, Pseudoternario, B8ZS y HDB3
+ *
+ * Un pulso (±V) representa la marca ('1' en AMI, '0' en Pseudoternario) y
+ * el nivel cero el otro bit. Dos pulsos seguidos con la misma polaridad son
+ * una violación, salvo que formen parte de una sustitución:
+ * - HDB3: 000V o B00V, donde V repite la polaridad del pulso anterior
+ * - B8ZS: 000VB0VB, con violaciones en la cuarta y séptima posición
+ *
+ * Para reconocer las sustituciones se retienen los últimos símbolos
+ * (3 en HDB3, 7 en B8ZS) antes de entregar sus bits.
+ */
+public class BipolarDecoder extends LineDecoder {
+
+    /** Regla de sustitución de ceros de la señal */
+    public enum Substitution {
+        NONE(1), HDB3(4), B8ZS(8);
+
+        private final int length;
+
+        Substitution(int length) {
+            this.length = length;
+        }
+    }
+
+    private final int markBit;
+    private final Substitution substitution;
+
+    private final int[] window;  // Símbolos retenidos (el más antiguo en 0)
+    private int size;
+    private int lastPulse = -1;  // Polaridad del último pulso entregado
+
+    /**
+     * @param samplesPerBit Muestras por bit de la señal
+     * @param output Destino de los bits recuperados
+     * @param markBit Bit representado por los pulsos (1 en AMI, 0 en Pseudoternario)
+     * @param substitution Regla de sustitución (NONE para AMI y Pseudoternario)
+     */
+    public BipolarDecoder(int samplesPerBit, IntConsumer output, int markBit, Substitution substitution) {
+        super(samplesPerBit, output);
+        this.markBit = markBit;
+        this.substitution = substitution;
+        this.window = new int[substitution.length];
+    }
+
+    @Override
+    protected void decodeSymbol(int first, int second) {
+        if (first != second) {
+            violation(); // Los códigos bipolares no cambian a la mitad del bit
+        }
+        window[size++] = first;
+        if (size < window.length) {
+            return;
+        }
+
+        if (isSubstitution()) {
+            // El bloque completo representa ceros
+            lastPulse = window[size - 1];
+            for (int i = 0; i < size; i++) {
+                emit(0);
+            }
+            size = 0;
+        } else {
+            release();
+        }
+    }
+
+    @Override
+    public void finish() {
+        while (size > 0) {
+            release();
+        }
+    }
+
+    /**
+     * Verifica si los símbolos retenidos forman el patrón de sustitución
+     * (la ventana está llena y P es la polaridad del pulso anterior)
+     */
+    private boolean isSubstitution() {
+        int p = lastPulse;
+        int[] w = window;
+        switch (substitution) {
+            case HDB3:
+                // 000V (V = P) o B00V (B = -P, V = B)
+                return w[1] == 0 && w[2] == 0
+                        && ((w[0] == 0 && w[3] == p) || (w[0] == -p && w[3] == w[0]));
+            case B8ZS:
+                // 000VB0VB: V = P, B = -P, 0, V = -P, B = P
+                return w[0] == 0 && w[1] == 0 && w[2] == 0 && w[5] == 0
+                        && w[3] == p && w[4] == -p && w[6] == -p && w[7] == p;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Entrega el símbolo más antiguo de la ventana
+     */
+    private void release() {
+        int level = window[0];
+        System.arraycopy(window, 1, window, 0, size - 1);
+        size--;
+
+        if (level == 0) {
+            emit(1 - markBit);
+        } else {
+            if (level == lastPulse) {
+                violation(); // Pulso con la misma polaridad que el anterior
+            }
+            lastPulse = level;
+            emit(markBit);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import java.util.Arrays;
+
+/**
+ * Código 4B/5B (FDDI, 100BASE-TX)
+ * Cada nibble se reemplaza por un grupo de 5 bits con al menos dos '1',
+ * de modo que NRZ-I o MLT-3 nunca pasan más de 3 bits sin transición.
+ * El nibble se lee con su primer bit como el más significativo (como en
+ * la tabla: 0000 → 11110) y el grupo se transmite de izquierda a derecha.
+ */
+public class Block4B5BCoder extends BlockCoder {
+
+    /** Grupos de código de los nibbles 0..F (notación de la norma) */
+    private static final String[] CODE_GROUPS = {
+            "11110", "01001", "10100", "10101", "01010", "01011", "01110", "01111",
+            "10010", "10011", "10110", "10111", "11010", "11011", "11100", "11101"
+    };
+
+    // Tablas indexadas por el valor en orden de transmisión (bit 0 = primer bit)
+    private static final int[] ENCODE = new int[16];
+    private static final int[] DECODE = new int[32];
+
+    static {
+        Arrays.fill(DECODE, -1); // Símbolos de control (I, J, K, T, R, H...) e inválidos
+        for (int nibble = 0; nibble < 16; nibble++) {
+            int data = Integer.reverse(nibble) >>> 28;
+            int code = (int) BitSequence.fromString(CODE_GROUPS[nibble]).bits(0, 5);
+            ENCODE[data] = code;
+            DECODE[code] = data;
+        }
+    }
+
+    public Block4B5BCoder() {
+        super(4, 5);
+    }
+
+    @Override
+    protected void encodeGroup(BitSequence data, int from, BitSequence.Builder out) {
+        out.append(ENCODE[(int) data.bits(from, 4)], 5);
+    }
+
+    @Override
+    protected void decodeGroup(BitSequence code, int from, BitSequence.Builder out) {
+        int data = DECODE[(int) code.bits(from, 5)];
+        if (data < 0) {
+            codeError();
+            data = 0;
+        }
+        out.append(data, 4);
+    }
+
+    @Override
+    public String getName() {
+        return "4B/5B";
+    }
+}
@@ -0,0 +1,44 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+
+/**
+ * Código 64b/66b (10GBASE-R)
+ *
+ * Cada bloque de 64 bits de datos se aleatoriza con x^58 + x^39 + 1 y se
+ * precede de la cabecera de sincronía 01 (bloque de datos). La cabecera
+ * garantiza una transición cada 66 bits y el aleatorizador el balance de DC.
+ * Al decodificar, las cabeceras 00 y 11 son inválidas y la 10 (bloque de
+ * control) no se admite en una carga de datos: las tres cuentan como error.
+ */
+public class Block64B66BCoder extends BlockCoder {
+
+    private static final long DATA_HEADER = 0b10;  // 0 y luego 1 en orden de transmisión
+    private static final long SCRAMBLER_SEED = -1L;
+
+    private final Scrambler scrambler = new Scrambler(Scrambler.Polynomial.X58_X39, SCRAMBLER_SEED);
+    private final Scrambler descrambler = new Scrambler(Scrambler.Polynomial.X58_X39, SCRAMBLER_SEED);
+
+    public Block64B66BCoder() {
+        super(64, 66);
+    }
+
+    @Override
+    protected void encodeGroup(BitSequence data, int from, BitSequence.Builder out) {
+        out.append(DATA_HEADER, 2);
+        out.append(scrambler.scrambleWord(data.bits(from, 64)), 64);
+    }
+
+    @Override
+    protected void decodeGroup(BitSequence code, int from, BitSequence.Builder out) {
+        if (code.bits(from, 2) != DATA_HEADER) {
+            codeError();
+        }
+        out.append(descrambler.descrambleWord(code.bits(from + 2, 64)), 64);
+    }
+
+    @Override
+    public String getName() {
+        return "64b/66b";
+    }
+}
@@ -0,0 +1,134 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import java.util.Arrays;
+
+/**
+ * Código 8b/10b (Widmer-Franaszek) con disparidad acumulada
+ *
+ * Cada byte HGF EDCBA se codifica como abcdei fghj: los 5 bits bajos con
+ * la tabla 5b/6b y los 3 altos con la tabla 3b/4b. Los sub-bloques con
+ * más unos que ceros (o al revés) se eligen según la disparidad acumulada
+ * (RD) para que la señal no tenga componente de DC.
+ *
+ * Orden de bits: el primer bit transmitido del byte es A (el menos
+ * significativo) y el primero del código es a. Solo se codifican datos
+ * (D.x.y); los caracteres de control K se decodifican como error.
+ *
+ * Las tablas de 512 entradas (RD, byte) y de 2048 entradas (RD, código)
+ * se calculan al cargar la clase.
+ */
+public class Block8B10BCoder extends BlockCoder {
+
+    /** Sub-bloques 5b/6b (abcdei) para RD- */
+    private static final String[] SIX = {
+            "100111", "011101", "101101", "110001", "110101", "101001", "011001", "111000",
+            "111001", "100101", "010101", "110100", "001101", "101100", "011100", "010111",
+            "011011", "100011", "010011", "110010", "001011", "101010", "011010", "111010",
+            "110011", "100110", "010110", "110110", "001110", "101110", "011110", "101011"
+    };
+
+    /** Sub-bloques 3b/4b (fghj) para RD-; el índice 8 es la alternativa A7 */
+    private static final String[] FOUR = {
+            "1011", "1001", "0101", "1100", "1101", "1010", "0110", "1110", "0111"
+    };
+
+    // [rd * 256 + byte] -> código de 10 bits (bit 0 = a) y RD siguiente (0 = -, 1 = +)
+    private static final short[] ENCODE = new short[512];
+    private static final byte[] ENCODE_RD = new byte[512];
+
+    // [rd * 1024 + código] -> byte, o -1 si el código no es válido con esa RD
+    private static final short[] DECODE = new short[2048];
+
+    static {
+        Arrays.fill(DECODE, (short) -1);
+        for (int rd = 0; rd < 2; rd++) {
+            for (int value = 0; value < 256; value++) {
+                int x = value & 31;
+                int y = value >>> 5;
+                int current = rd;
+
+                int six = notation(SIX[x]);
+                if (x == 7) {
+                    six = current == 0 ? six : six ^ 0x3F; // D.07: 111000 / 000111, RD no cambia
+                } else if (Integer.bitCount(six) != 3) {
+                    six = current == 0 ? six : six ^ 0x3F;
+                    current ^= 1;
+                }
+
+                boolean alternate = y == 7 && (current == 0 ? (x == 17 || x == 18 || x == 20)
+                        : (x == 11 || x == 13 || x == 14));
+                int four = notation(FOUR[alternate ? 8 : y]);
+                if (y == 3) {
+                    four = current == 0 ? four : four ^ 0xF; // D.x.3: 1100 / 0011, RD no cambia
+                } else if (Integer.bitCount(four) != 2) {
+                    four = current == 0 ? four : four ^ 0xF;
+                    current ^= 1;
+                }
+
+                int code = six | (four << 6);
+                ENCODE[rd * 256 + value] = (short) code;
+                ENCODE_RD[rd * 256 + value] = (byte) current;
+                DECODE[rd * 1024 + code] = (short) value;
+            }
+        }
+    }
+
+    private int encoderRd;   // Disparidad acumulada del codificador
+    private int decoderRd;   // Disparidad acumulada del decodificador
+
+    public Block8B10BCoder() {
+        super(8, 10);
+    }
+
+    @Override
+    protected void encodeGroup(BitSequence data, int from, BitSequence.Builder out) {
+        int index = encoderRd * 256 + (int) data.bits(from, 8);
+        out.append(ENCODE[index], 10);
+        encoderRd = ENCODE_RD[index];
+    }
+
+    @Override
+    protected void decodeGroup(BitSequence code, int from, BitSequence.Builder out) {
+        int group = (int) code.bits(from, 10);
+        int value = DECODE[decoderRd * 1024 + group];
+        if (value >= 0) {
+            decoderRd = ENCODE_RD[decoderRd * 256 + value];
+        } else {
+            // Código inválido o error de disparidad: resincronizar la RD con el código recibido
+            codeError();
+            int other = DECODE[(decoderRd ^ 1) * 1024 + group];
+            if (other >= 0) {
+                value = other;
+                decoderRd = ENCODE_RD[(decoderRd ^ 1) * 256 + other];
+            } else {
+                value = 0;
+                int ones = Integer.bitCount(group);
+                if (ones != 5) {
+                    decoderRd = ones > 5 ? 1 : 0;
+                }
+            }
+        }
+        out.append(value, 8);
+    }
+
+    /**
+     * @return Disparidad acumulada del codificador (-1 o +1)
+     */
+    public int getRunningDisparity() {
+        return encoderRd == 0 ? -1 : 1;
+    }
+
+    /**
+     * Convierte la notación de la norma (primer bit a la izquierda) en un
+     * valor en orden de transmisión (bit 0 = primer bit)
+     */
+    private static int notation(String bits) {
+        return (int) BitSequence.fromString(bits).bits(0, bits.length());
+    }
+
+    @Override
+    public String getName() {
+        return "8b/10b";
+    }
+}
@@ -0,0 +1,153 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+
+/**
+ * Clase base de los códigos de bloque (mBnB) previos a la codificación de línea
+ *
+ * Convierte cada grupo de getDataBits() bits de datos en un grupo de
+ * getCodeBits() bits de código por consulta a tablas, con trabajo O(1) por
+ * grupo. Las instancias conservan su estado entre llamadas (disparidad,
+ * registro del aleatorizador) y retienen los bits que no completan un
+ * grupo hasta la siguiente llamada, así que pueden usarse en flujo.
+ *
+ * Usar una instancia para codificar y otra para decodificar.
+ */
+public abstract class BlockCoder {
+
+    private final int dataBits;
+    private final int codeBits;
+
+    private BitSequence pendingData = BitSequence.empty();
+    private BitSequence pendingCode = BitSequence.empty();
+    private long codeErrors;
+
+    /**
+     * @param dataBits Bits de datos por grupo
+     * @param codeBits Bits de código por grupo
+     */
+    protected BlockCoder(int dataBits, int codeBits) {
+        this.dataBits = dataBits;
+        this.codeBits = codeBits;
+    }
+
+    /**
+     * Crea el código indicado por el parámetro "blockCode"
+     *
+     * @param value "4B5B", "8B10B", "64B66B", "NONE" o null
+     * @return Nuevo codificador, o null si no se usa código de bloque
+     * @throws IllegalArgumentException si el valor no es un código conocido
+     */
+    public static BlockCoder fromParameter(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String name = value.toString().trim().toUpperCase();
+        switch (name) {
+            case "":
+            case "NONE":
+                return null;
+            case "4B5B":
+                return new Block4B5BCoder();
+            case "8B10B":
+                return new Block8B10BCoder();
+            case "64B66B":
+                return new Block64B66BCoder();
+            default:
+                throw new IllegalArgumentException("Código de bloque desconocido: " + value);
+        }
+    }
+
+    /**
+     * Codifica los grupos completos de datos
+     * Los bits sobrantes se retienen hasta la siguiente llamada o flush().
+     *
+     * @param data Bits de datos
+     * @return Bits de código de los grupos completos
+     */
+    public BitSequence encode(BitSequence data) {
+        BitSequence work = pendingData.isEmpty() ? data : pendingData.concat(data);
+        int groups = work.length() / dataBits;
+        BitSequence.Builder out = BitSequence.builder(groups * codeBits);
+        for (int g = 0; g < groups; g++) {
+            encodeGroup(work, g * dataBits, out);
+        }
+        pendingData = work.subSequence(groups * dataBits, work.length());
+        return out.build();
+    }
+
+    /**
+     * Codifica el último grupo incompleto, rellenado con ceros
+     *
+     * @return Bits de código del grupo (vacío si no había bits retenidos)
+     */
+    public BitSequence flush() {
+        if (pendingData.isEmpty()) {
+            return BitSequence.empty();
+        }
+        int padding = dataBits - pendingData.length();
+        pendingData = pendingData.concat(BitSequence.zeros(padding));
+        return encode(BitSequence.empty());
+    }
+
+    /**
+     * Decodifica los grupos completos de código
+     * Los grupos inválidos cuentan como errores y se decodifican como ceros.
+     *
+     * @param code Bits de código
+     * @return Bits de datos de los grupos completos
+     */
+    public BitSequence decode(BitSequence code) {
+        BitSequence work = pendingCode.isEmpty() ? code : pendingCode.concat(code);
+        int groups = work.length() / codeBits;
+        BitSequence.Builder out = BitSequence.builder(groups * dataBits);
+        for (int g = 0; g < groups; g++) {
+            decodeGroup(work, g * codeBits, out);
+        }
+        pendingCode = work.subSequence(groups * codeBits, work.length());
+        return out.build();
+    }
+
+    /**
+     * Codifica el grupo de datos que empieza en from
+     */
+    protected abstract void encodeGroup(BitSequence data, int from, BitSequence.Builder out);
+
+    /**
+     * Decodifica el grupo de código que empieza en from
+     */
+    protected abstract void decodeGroup(BitSequence code, int from, BitSequence.Builder out);
+
+    /**
+     * Registra un grupo de código inválido o con error de disparidad
+     */
+    protected void codeError() {
+        codeErrors++;
+    }
+
+    /**
+     * @return Grupos de código inválidos detectados al decodificar
+     */
+    public long getCodeErrors() {
+        return codeErrors;
+    }
+
+    /**
+     * @return Bits de datos por grupo
+     */
+    public int getDataBits() {
+        return dataBits;
+    }
+
+    /**
+     * @return Bits de código por grupo
+     */
+    public int getCodeBits() {
+        return codeBits;
+    }
+
+    /**
+     * @return Nombre del código
+     */
+    public abstract String getName();
+}
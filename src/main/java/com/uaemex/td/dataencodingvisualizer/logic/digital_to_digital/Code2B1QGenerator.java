@@ -0,0 +1,29 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+/**
+ * 2B1Q (2 Binary, 1 Quaternary), usado en RDSI (ISDN BRI) y HDSL
+ * Cada par de bits se transmite como uno de 4 niveles ("quats"):
+ * 10 = +3, 11 = +1, 01 = -1, 00 = -3
+ * El primer bit indica el signo y el segundo la magnitud.
+ */
+public class Code2B1QGenerator extends MultilevelLineCodingGenerator {
+
+    private static final double[] LEVELS = symbolTable(
+            new String[]{"10", "11", "01", "00"},
+            new double[]{3.0, 1.0, -1.0, -3.0});
+
+    @Override
+    protected double[] getSymbolLevels() {
+        return LEVELS;
+    }
+
+    @Override
+    public String getName() {
+        return "2B1Q (2 Binary, 1 Quaternary)";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Cada par de bits se envía como un nivel de cuatro (+3, +1, -1, -3): la mitad de tasa de símbolos que NRZ. Usado en RDSI";
+    }
+}
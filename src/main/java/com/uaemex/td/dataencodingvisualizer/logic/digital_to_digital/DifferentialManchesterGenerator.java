@@ -1,9 +1,6 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Differential Manchester (IEEE 802.5)
@@ -13,51 +10,26 @@ import java.util.Map;
  */
 public class DifferentialManchesterGenerator extends LineCodingGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
-
-        double time = 0;
-        int halfSamples = SAMPLES_PER_BIT / 2;
-        double currentLevel = 1.0; // Nivel inicial
-
-        for (char bit : input.toCharArray()) {
-            double firstHalfLevel, secondHalfLevel;
-
-            if (bit == '0') {
-                // Bit 0: HAY transición al inicio
-                currentLevel = -currentLevel;
-            }
-            // Bit 1: NO hay transición al inicio, mantiene el nivel
-
-            // Primera mitad: nivel actual
-            firstHalfLevel = currentLevel;
+    /**
+     * Estados: nivel al final del bit anterior
+     * 0 = +1 (inicial), 1 = -1
+     */
+    private static final LineCodeTransducer TRANSDUCER = LineCodeTransducer.builder(2)
+            .initial(0)
+            .on(0, 0, -1.0, 1.0, 0)    // Bit 0: transición al inicio y a la mitad
+            .on(0, 1, 1.0, -1.0, 1)    // Bit 1: solo transición a la mitad
+            .on(1, 0, 1.0, -1.0, 1)
+            .on(1, 1, -1.0, 1.0, 0)
+            .build();
 
-            // Segunda mitad: SIEMPRE hay transición en la mitad
-            secondHalfLevel = -currentLevel;
-
-            // Dibujar primera mitad
-            for (int i = 0; i < halfSamples; i++) {
-                double x = time + (i / (double) SAMPLES_PER_BIT);
-                data.add(new SignalData(x, firstHalfLevel));
-            }
-
-            // Dibujar segunda mitad
-            for (int i = halfSamples; i < SAMPLES_PER_BIT; i++) {
-                double x = time + (i / (double) SAMPLES_PER_BIT);
-                data.add(new SignalData(x, secondHalfLevel));
-            }
-
-            // Actualizar nivel para el próximo bit
-            currentLevel = secondHalfLevel;
-            time++;
-        }
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return TRANSDUCER;
+    }
 
-        return data;
+    @Override
+    public LineDecoder createDecoder(IntConsumer output) {
+        return new ManchesterDecoder(samplesPerBit, output, true);
     }
 
     @Override
@@ -1,9 +1,6 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * High Density Bipolar 3-Zero (HDB3)
@@ -13,84 +10,37 @@ import java.util.Map;
  */
 public class HDB3Generator extends LineCodingGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
-
-        double time = 0;
-        boolean lastPolarityPositive = true;
-        int pulsesSinceSubstitution = 0;
-        List<Character> bits = new ArrayList<>();
-
-        for (char c : input.toCharArray()) {
-            bits.add(c);
-        }
-
-        int i = 0;
-        while (i < bits.size()) {
-            // Detectar 4 ceros consecutivos
-            if (i + 3 < bits.size() && allZeros(bits, i, 4)) {
-                double[] pattern = new double[4];
-
-                if (pulsesSinceSubstitution % 2 == 1) {
-                    // Impar: 000V
-                    pattern[0] = 0; pattern[1] = 0; pattern[2] = 0;
-                    pattern[3] = lastPolarityPositive ? 1.0 : -1.0; // Violación
-                } else {
-                    // Par: B00V
-                    pattern[0] = lastPolarityPositive ? 1.0 : -1.0; // B
-                    pattern[1] = 0; pattern[2] = 0;
-                    pattern[3] = lastPolarityPositive ? 1.0 : -1.0; // Violación
-                }
-
-                lastPolarityPositive = !lastPolarityPositive;
-                pulsesSinceSubstitution = 0;
+    /**
+     * Estados: polaridad del próximo pulso y paridad de pulsos desde la
+     * última sustitución (estado = polaridad | paridad << 1)
+     * 0 = +/par (inicial), 1 = -/par, 2 = +/impar, 3 = -/impar
+     */
+    private static final LineCodeTransducer TRANSDUCER = LineCodeTransducer.builder(4)
+            .initial(0)                // El primer pulso será positivo
+            .on(0, 0, 0.0, 0)          // Bit 0: voltaje cero
+            .on(1, 0, 0.0, 1)
+            .on(2, 0, 0.0, 2)
+            .on(3, 0, 0.0, 3)
+            .on(0, 1, 1.0, 3)          // Bit 1: pulso, alternar polaridad y paridad
+            .on(1, 1, -1.0, 2)
+            .on(2, 1, 1.0, 1)
+            .on(3, 1, -1.0, 0)
+            .substitute(4, new double[][]{
+                    {1, 0, 0, 1},      // Par: B00V (V con el signo de B)
+                    {-1, 0, 0, -1},
+                    {0, 0, 0, -1},     // Impar: 000V (V con el signo del último pulso)
+                    {0, 0, 0, 1}
+            }, new int[]{1, 0, 0, 1})  // B00V alterna la polaridad, 000V la conserva; ambos reinician la paridad
+            .build();
 
-                for (double level : pattern) {
-                    addBitSegment(data, time, level);
-                    time++;
-                }
-                i += 4;
-            } else {
-                // AMI normal
-                char bit = bits.get(i);
-                double level;
-
-                if (bit == '0') {
-                    level = 0.0;
-                } else {
-                    level = lastPolarityPositive ? 1.0 : -1.0;
-                    lastPolarityPositive = !lastPolarityPositive;
-                    pulsesSinceSubstitution++;
-                }
-
-                addBitSegment(data, time, level);
-                time++;
-                i++;
-            }
-        }
-
-        return data;
-    }
-
-    private boolean allZeros(List<Character> bits, int start, int count) {
-        for (int i = 0; i < count; i++) {
-            if (bits.get(start + i) != '0') {
-                return false;
-            }
-        }
-        return true;
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return TRANSDUCER;
     }
 
-    private void addBitSegment(List<SignalData> data, double time, double level) {
-        for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-            double x = time + (i / (double) SAMPLES_PER_BIT);
-            data.add(new SignalData(x, level));
-        }
+    @Override
+    public LineDecoder createDecoder(IntConsumer output) {
+        return new BipolarDecoder(samplesPerBit, output, 1, BipolarDecoder.Substitution.HDB3);
     }
 
     @Override
@@ -0,0 +1,47 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+/**
+ * Destino de los niveles producidos por un codificador de línea
+ *
+ * Cada bit codificado se describe con dos niveles de voltaje: el de la
+ * primera mitad y el de la segunda mitad del intervalo de bit. Los códigos
+ * NRZ y bipolares usan el mismo nivel en ambas mitades; Manchester y
+ * Manchester Diferencial cambian de nivel a la mitad del bit.
+ *
+ * Separar los niveles del muestreo permite reutilizar el mismo codificador
+ * para dibujar, diezmar o analizar la señal.
+ */
+@FunctionalInterface
+public interface LevelSink {
+
+    /**
+     * Recibe los niveles de un bit codificado
+     *
+     * @param firstHalf Nivel de la primera mitad del bit (-1, 0, +1)
+     * @param secondHalf Nivel de la segunda mitad del bit (-1, 0, +1)
+     */
+    void accept(double firstHalf, double secondHalf);
+
+    /**
+     * Recibe count bits consecutivos con los mismos niveles
+     * (por ejemplo, una racha de ceros en un código bipolar)
+     *
+     * @param firstHalf Nivel de la primera mitad de cada bit
+     * @param secondHalf Nivel de la segunda mitad de cada bit
+     * @param count Número de bits
+     */
+    default void acceptRepeated(double firstHalf, double secondHalf, int count) {
+        for (int i = 0; i < count; i++) {
+            accept(firstHalf, secondHalf);
+        }
+    }
+
+    /**
+     * Indica que los siguientes length bits son un patrón de sustitución de
+     * ceros (B8ZS, HDB3). Por defecto se ignora.
+     *
+     * @param length Bits del patrón
+     */
+    default void acceptSubstitution(int length) {
+    }
+}
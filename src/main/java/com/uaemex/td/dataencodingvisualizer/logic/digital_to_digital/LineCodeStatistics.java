@@ -0,0 +1,330 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+/**
+ * Estadísticas de una señal de línea calculadas en una sola pasada
+ *
+ * Se conecta como LevelSink a cualquier codificador (generate, sesiones o
+ * LineCodingGenerator.analyze) y solo guarda contadores, así que no asigna
+ * memoria por bit y admite cargas de cientos de megabits. Calcula:
+ * - Suma digital acumulada (RDS): integral del nivel en unidades de bit;
+ *   su valor final y su rango miden la deriva de DC
+ * - Racha máxima sin transiciones (en bits)
+ * - Transiciones por bit, como indicador de recuperación de reloj
+ * - Sustituciones de ceros (B8ZS, HDB3) y violaciones bipolares: pulsos
+ *   con la misma polaridad que el pulso anterior
+ *
+ * Las estadísticas de tramos consecutivos se combinan con append(), lo
+ * que permite analizar cargas grandes por bloques en paralelo.
+ */
+public class LineCodeStatistics implements LevelSink {
+
+    private long bits;
+    private double runningSum;
+    private double minSum;
+    private double maxSum;
+    private double sumOfSquares;
+
+    private boolean started;
+    private double firstLevel;
+    private long prefixRun;     // Mitades de bit con el primer nivel antes de la primera transición
+    private double lastLevel;
+    private long transitions;
+    private long currentRun;    // En mitades de bit
+    private long maxRun;        // En mitades de bit
+
+    private int firstPulse;     // Polaridad del primer pulso (0 si no hubo)
+    private int lastPulse;      // Polaridad del último pulso (0 si no hubo)
+    private long pulses;
+    private long violations;
+    private long substitutions;
+
+    @Override
+    public void accept(double firstHalf, double secondHalf) {
+        if (started && firstHalf == lastLevel && secondHalf == lastLevel) {
+            // Caso más común: el bit continúa el nivel anterior
+            runningSum += firstHalf;
+            sumOfSquares += firstHalf * firstHalf;
+            currentRun += 2;
+            if (transitions == 0) {
+                prefixRun += 2;
+            }
+            if (currentRun > maxRun) {
+                maxRun = currentRun;
+            }
+        } else {
+            half(firstHalf);
+            half(secondHalf);
+        }
+        bits++;
+        updateRange();
+    }
+
+    /**
+     * Una racha de bits con el mismo nivel se procesa en O(1)
+     */
+    @Override
+    public void acceptRepeated(double firstHalf, double secondHalf, int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (firstHalf != secondHalf) {
+            LevelSink.super.acceptRepeated(firstHalf, secondHalf, count);
+            return;
+        }
+        accept(firstHalf, secondHalf);
+        long rest = count - 1;
+        // Sin transiciones: la suma varía en forma monótona y basta revisar el final
+        runningSum += firstHalf * rest;
+        sumOfSquares += firstHalf * firstHalf * rest;
+        currentRun += 2 * rest;
+        if (transitions == 0) {
+            prefixRun += 2 * rest;
+        }
+        maxRun = Math.max(maxRun, currentRun);
+        bits += rest;
+        updateRange();
+    }
+
+    @Override
+    public void acceptSubstitution(int length) {
+        substitutions++;
+    }
+
+    private void half(double level) {
+        runningSum += level / 2;
+        sumOfSquares += level * level / 2;
+
+        if (started && level == lastLevel) {
+            currentRun++;
+            if (transitions == 0) {
+                prefixRun++;
+            }
+        } else {
+            if (started) {
+                transitions++;
+            } else {
+                firstLevel = level;
+                prefixRun = 1;
+            }
+            currentRun = 1;
+
+            // Un pulso empieza al pasar de cero (o de la polaridad opuesta) a un nivel distinto de cero
+            int polarity = polarity(level);
+            if (polarity != 0 && (!started || polarity != polarity(lastLevel))) {
+                if (polarity == lastPulse) {
+                    violations++;
+                }
+                if (pulses == 0) {
+                    firstPulse = polarity;
+                }
+                lastPulse = polarity;
+                pulses++;
+            }
+        }
+        maxRun = Math.max(maxRun, currentRun);
+        lastLevel = level;
+        started = true;
+    }
+
+    /**
+     * Agrega las estadísticas del tramo que sigue inmediatamente a este en
+     * la misma señal. El resultado es el mismo que analizar ambos tramos
+     * en una sola pasada.
+     *
+     * @param next Estadísticas del tramo siguiente
+     */
+    public void append(LineCodeStatistics next) {
+        if (!next.started) {
+            return;
+        }
+        if (!started) {
+            copyFrom(next);
+            return;
+        }
+
+        // Suma acumulada: el tramo siguiente empieza desde la suma actual
+        minSum = Math.min(minSum, runningSum + next.minSum);
+        maxSum = Math.max(maxSum, runningSum + next.maxSum);
+        runningSum += next.runningSum;
+        sumOfSquares += next.sumOfSquares;
+
+        // Transición y racha en la frontera
+        boolean joined = next.firstLevel == lastLevel;
+        long halves = 2 * next.bits;
+        long boundaryRun = joined ? currentRun + next.prefixRun : next.prefixRun;
+        if (transitions == 0 && joined) {
+            prefixRun += next.prefixRun; // Todavía sin transiciones
+        }
+        transitions += next.transitions + (joined ? 0 : 1);
+        maxRun = Math.max(Math.max(maxRun, next.maxRun), boundaryRun);
+        currentRun = next.prefixRun == halves ? boundaryRun : next.currentRun;
+
+        // Primer pulso del tramo siguiente: se analizó sin conocer el anterior
+        long nextPulses = next.pulses;
+        long nextViolations = next.violations;
+        int firstPolarity = polarity(next.firstLevel);
+        if (firstPolarity != 0 && firstPolarity == polarity(lastLevel)) {
+            nextPulses--; // Continúa el pulso anterior
+        } else if (next.firstPulse != 0 && next.firstPulse == lastPulse) {
+            nextViolations++;
+        }
+        if (pulses == 0) {
+            firstPulse = next.firstPulse;
+        }
+        pulses += nextPulses;
+        violations += nextViolations;
+        if (next.lastPulse != 0) {
+            lastPulse = next.lastPulse;
+        }
+
+        substitutions += next.substitutions;
+        bits += next.bits;
+        lastLevel = next.lastLevel;
+    }
+
+    private void copyFrom(LineCodeStatistics other) {
+        bits = other.bits;
+        runningSum = other.runningSum;
+        minSum = other.minSum;
+        maxSum = other.maxSum;
+        sumOfSquares = other.sumOfSquares;
+        started = other.started;
+        firstLevel = other.firstLevel;
+        prefixRun = other.prefixRun;
+        lastLevel = other.lastLevel;
+        transitions = other.transitions;
+        currentRun = other.currentRun;
+        maxRun = other.maxRun;
+        firstPulse = other.firstPulse;
+        lastPulse = other.lastPulse;
+        pulses = other.pulses;
+        violations = other.violations;
+        substitutions = other.substitutions;
+    }
+
+    private void updateRange() {
+        if (runningSum < minSum) {
+            minSum = runningSum;
+        } else if (runningSum > maxSum) {
+            maxSum = runningSum;
+        }
+    }
+
+    private static int polarity(double level) {
+        return level > 0 ? 1 : (level < 0 ? -1 : 0);
+    }
+
+    /**
+     * Reinicia todos los contadores
+     */
+    public void reset() {
+        bits = 0;
+        runningSum = minSum = maxSum = sumOfSquares = 0;
+        started = false;
+        firstLevel = lastLevel = 0;
+        prefixRun = 0;
+        transitions = currentRun = maxRun = 0;
+        firstPulse = lastPulse = 0;
+        pulses = violations = substitutions = 0;
+    }
+
+    /**
+     * @return Bits analizados
+     */
+    public long getBitCount() {
+        return bits;
+    }
+
+    /**
+     * @return Suma digital acumulada al final de la señal (nivel × bits)
+     */
+    public double getRunningDigitalSum() {
+        return runningSum;
+    }
+
+    /**
+     * @return Valor mínimo de la suma acumulada (medido al final de cada bit)
+     */
+    public double getMinRunningSum() {
+        return minSum;
+    }
+
+    /**
+     * @return Valor máximo de la suma acumulada (medido al final de cada bit)
+     */
+    public double getMaxRunningSum() {
+        return maxSum;
+    }
+
+    /**
+     * @return Excursión de la suma acumulada (máximo - mínimo); acotada en
+     *         códigos sin DC (Manchester, AMI, 8b/10b)
+     */
+    public double getDcDrift() {
+        return maxSum - minSum;
+    }
+
+    /**
+     * @return Nivel promedio (componente de DC)
+     */
+    public double getDcOffset() {
+        return bits == 0 ? 0.0 : runningSum / bits;
+    }
+
+    /**
+     * @return Potencia promedio (nivel cuadrático medio)
+     */
+    public double getAveragePower() {
+        return bits == 0 ? 0.0 : sumOfSquares / bits;
+    }
+
+    /**
+     * @return Racha más larga sin transiciones, en bits
+     */
+    public double getMaxRunLength() {
+        return maxRun / 2.0;
+    }
+
+    /**
+     * @return Número de cambios de nivel (incluye los de mitad de bit)
+     */
+    public long getTransitionCount() {
+        return transitions;
+    }
+
+    /**
+     * @return Transiciones por bit (0 a 2; más transiciones facilitan recuperar el reloj)
+     */
+    public double getTransitionsPerBit() {
+        return bits == 0 ? 0.0 : transitions / (double) bits;
+    }
+
+    /**
+     * @return Número de pulsos
+     */
+    public long getPulseCount() {
+        return pulses;
+    }
+
+    /**
+     * @return Pulsos con la misma polaridad que el anterior (V en B8ZS/HDB3)
+     */
+    public long getViolationCount() {
+        return violations;
+    }
+
+    /**
+     * @return Bloques de ceros sustituidos
+     */
+    public long getSubstitutionCount() {
+        return substitutions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d bits | DC %.4f, RDS [%.1f, %.1f] | racha máx %.1f bits | "
+                        + "%.3f transiciones/bit | %d sustituciones, %d violaciones",
+                bits, getDcOffset(), minSum, maxSum, getMaxRunLength(),
+                getTransitionsPerBit(), substitutions, violations);
+    }
+}
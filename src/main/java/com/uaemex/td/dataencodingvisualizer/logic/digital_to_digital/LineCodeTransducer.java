@@ -0,0 +1,306 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+
+/**
+ * Transductor de estados finitos que describe un código de línea
+ *
+ * Un código se declara como:
+ * - Un conjunto de estados 0..n-1 y un estado inicial
+ * - Para cada (estado, bit): los niveles de la primera y segunda mitad del
+ *   bit y el estado siguiente
+ * - Opcionalmente, una regla de sustitución de ceros: cada bloque completo
+ *   de L ceros (contado desde el inicio de la racha) se reemplaza por un
+ *   patrón de L niveles que depende del estado, como en B8ZS y HDB3
+ *
+ * El motor de codificación es el mismo para todas las técnicas: lee los
+ * bits palabra por palabra, busca las rachas de ceros con nextSetBit y
+ * calcula tablas por byte para avanzar el estado sin generar niveles (usado
+ * por la codificación paralela, los checkpoints y las plantillas).
+ *
+ * Se construye con LineCodeTransducer.builder(estados).
+ */
+public final class LineCodeTransducer {
+
+    private final int stateCount;
+    private final int initialState;
+
+    // Tablas indexadas por (estado << 1) | bit
+    private final double[] firstHalf;
+    private final double[] secondHalf;
+    private final int[] next;
+
+    // Regla de sustitución (substitutionLength = 0 si no hay)
+    private final int substitutionLength;
+    private final double[][] substitutionLevels; // [estado] -> L niveles
+    private final int[] substitutionNext;         // [estado] -> estado siguiente
+
+    // Estado tras 8 bits sin sustitución: [estado * 256 + byte]
+    private final int[] byteNext;
+
+    private LineCodeTransducer(Builder builder) {
+        this.stateCount = builder.stateCount;
+        this.initialState = builder.initialState;
+        this.firstHalf = builder.firstHalf.clone();
+        this.secondHalf = builder.secondHalf.clone();
+        this.next = builder.next.clone();
+        this.substitutionLength = builder.substitutionLength;
+        this.substitutionLevels = builder.substitutionLevels;
+        this.substitutionNext = builder.substitutionNext;
+
+        this.byteNext = new int[stateCount * 256];
+        for (int s = 0; s < stateCount; s++) {
+            for (int value = 0; value < 256; value++) {
+                int state = s;
+                for (int b = 0; b < 8; b++) {
+                    state = next[(state << 1) | ((value >>> b) & 1)];
+                }
+                byteNext[s * 256 + value] = state;
+            }
+        }
+    }
+
+    /**
+     * Inicia la declaración de un código con stateCount estados
+     *
+     * @param stateCount Número de estados (mínimo 1)
+     * @return Constructor del transductor
+     */
+    public static Builder builder(int stateCount) {
+        return new Builder(stateCount);
+    }
+
+    /**
+     * Codifica los bits [from, to) a partir del estado state
+     *
+     * @param bits Secuencia de bits
+     * @param from Primer bit (inclusivo)
+     * @param to Último bit (exclusivo)
+     * @param state Estado antes del bit from
+     * @param sink Destino de los niveles
+     * @return Estado después del bit to - 1
+     */
+    public int encode(BitSequence bits, int from, int to, int state, LevelSink sink) {
+        if (substitutionLength == 0) {
+            // Sin sustitución: recorrer 64 bits por palabra
+            for (int i = from; i < to; i += 64) {
+                int count = Math.min(64, to - i);
+                long word = bits.bits(i, count);
+                for (int k = 0; k < count; k++) {
+                    int t = (state << 1) | (int) (word & 1);
+                    sink.accept(firstHalf[t], secondHalf[t]);
+                    state = next[t];
+                    word >>>= 1;
+                }
+            }
+            return state;
+        }
+
+        int i = from;
+        while (i < to) {
+            if (bits.get(i)) {
+                int t = (state << 1) | 1;
+                sink.accept(firstHalf[t], secondHalf[t]);
+                state = next[t];
+                i++;
+                continue;
+            }
+
+            // Racha de ceros [i, runEnd): el siguiente '1' se busca palabra por palabra
+            int nextOne = bits.nextSetBit(i);
+            int runEnd = (nextOne < 0 || nextOne > to) ? to : nextOne;
+
+            // Sustituir cada bloque completo de ceros
+            for (; i + substitutionLength <= runEnd; i += substitutionLength) {
+                sink.acceptSubstitution(substitutionLength);
+                for (double level : substitutionLevels[state]) {
+                    sink.accept(level, level);
+                }
+                state = substitutionNext[state];
+            }
+
+            // Ceros restantes sin sustituir
+            while (i < runEnd) {
+                int t = state << 1;
+                if (next[t] == state) {
+                    sink.acceptRepeated(firstHalf[t], secondHalf[t], runEnd - i);
+                    i = runEnd;
+                } else {
+                    sink.accept(firstHalf[t], secondHalf[t]);
+                    state = next[t];
+                    i++;
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Avanza el estado sobre los bits [from, to) sin generar niveles
+     * Sin sustitución se avanza un byte por consulta a la tabla.
+     *
+     * @return Estado después del bit to - 1
+     */
+    public int run(BitSequence bits, int from, int to, int state) {
+        if (substitutionLength > 0) {
+            return encode(bits, from, to, state, (firstHalf, secondHalf) -> { });
+        }
+        int i = from;
+        for (; i + 8 <= to; i += 8) {
+            state = byteNext[state * 256 + (int) bits.bits(i, 8)];
+        }
+        for (; i < to; i++) {
+            state = next[(state << 1) | bits.bit(i)];
+        }
+        return state;
+    }
+
+    /**
+     * Calcula la función de transición de un bloque: el estado final para
+     * cada estado inicial posible. Permite componer bloques en paralelo.
+     *
+     * @return Arreglo map donde map[s] es el estado final partiendo de s
+     */
+    public int[] stateMap(BitSequence bits, int from, int to) {
+        int[] map = new int[stateCount];
+        for (int s = 0; s < stateCount; s++) {
+            map[s] = run(bits, from, to, s);
+        }
+        return map;
+    }
+
+    /**
+     * @return Número de estados
+     */
+    public int getStateCount() {
+        return stateCount;
+    }
+
+    /**
+     * @return Estado al inicio de la señal
+     */
+    public int getInitialState() {
+        return initialState;
+    }
+
+    /**
+     * @return Longitud de los bloques de ceros sustituidos (0 si no hay sustitución)
+     */
+    public int getSubstitutionLength() {
+        return substitutionLength;
+    }
+
+    /**
+     * Constructor de transductores
+     * Toda combinación (estado, bit) debe declararse antes de build().
+     */
+    public static final class Builder {
+        private final int stateCount;
+        private int initialState;
+        private final double[] firstHalf;
+        private final double[] secondHalf;
+        private final int[] next;
+        private final boolean[] declared;
+
+        private int substitutionLength;
+        private double[][] substitutionLevels;
+        private int[] substitutionNext;
+
+        private Builder(int stateCount) {
+            if (stateCount < 1) {
+                throw new IllegalArgumentException("Se requiere al menos un estado");
+            }
+            this.stateCount = stateCount;
+            this.firstHalf = new double[stateCount * 2];
+            this.secondHalf = new double[stateCount * 2];
+            this.next = new int[stateCount * 2];
+            this.declared = new boolean[stateCount * 2];
+        }
+
+        /**
+         * @param state Estado al inicio de la señal
+         */
+        public Builder initial(int state) {
+            checkState(state);
+            this.initialState = state;
+            return this;
+        }
+
+        /**
+         * Declara la salida y el estado siguiente de un bit
+         *
+         * @param state Estado actual
+         * @param bit Bit de entrada (0 o 1)
+         * @param first Nivel de la primera mitad del bit
+         * @param second Nivel de la segunda mitad del bit
+         * @param nextState Estado después del bit
+         */
+        public Builder on(int state, int bit, double first, double second, int nextState) {
+            checkState(state);
+            checkState(nextState);
+            if (bit != 0 && bit != 1) {
+                throw new IllegalArgumentException("El bit debe ser 0 o 1: " + bit);
+            }
+            int t = (state << 1) | bit;
+            firstHalf[t] = first;
+            secondHalf[t] = second;
+            next[t] = nextState;
+            declared[t] = true;
+            return this;
+        }
+
+        /**
+         * Declara un bit de nivel constante (ambas mitades iguales)
+         */
+        public Builder on(int state, int bit, double level, int nextState) {
+            return on(state, bit, level, level, nextState);
+        }
+
+        /**
+         * Declara la regla de sustitución para los bloques de length ceros
+         *
+         * @param length Longitud del bloque de ceros
+         * @param levels levels[estado] = niveles que reemplazan el bloque (length por estado)
+         * @param nextStates nextStates[estado] = estado después del bloque
+         */
+        public Builder substitute(int length, double[][] levels, int[] nextStates) {
+            if (length < 1 || length > 64) {
+                throw new IllegalArgumentException("Longitud de sustitución inválida: " + length);
+            }
+            if (levels.length != stateCount || nextStates.length != stateCount) {
+                throw new IllegalArgumentException("Se requiere un patrón por estado");
+            }
+            double[][] copy = new double[stateCount][];
+            for (int s = 0; s < stateCount; s++) {
+                if (levels[s].length != length) {
+                    throw new IllegalArgumentException("El patrón del estado " + s + " debe tener " + length + " niveles");
+                }
+                checkState(nextStates[s]);
+                copy[s] = levels[s].clone();
+            }
+            this.substitutionLength = length;
+            this.substitutionLevels = copy;
+            this.substitutionNext = nextStates.clone();
+            return this;
+        }
+
+        /**
+         * @return Transductor inmutable
+         * @throws IllegalStateException si falta declarar alguna transición
+         */
+        public LineCodeTransducer build() {
+            for (int t = 0; t < declared.length; t++) {
+                if (!declared[t]) {
+                    throw new IllegalStateException("Falta la transición del estado " + (t >> 1) + " con bit " + (t & 1));
+                }
+            }
+            return new LineCodeTransducer(this);
+        }
+
+        private void checkState(int state) {
+            if (state < 0 || state >= stateCount) {
+                throw new IllegalArgumentException("Estado inválido: " + state + " (hay " + stateCount + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import java.util.Arrays;
+
+/**
+ * Checkpoints del estado de un codificador de línea
+ *
+ * Se construyen con una primera pasada sobre la secuencia completa que solo
+ * actualiza el estado (sin muestrear) y guarda una copia del estado cada
+ * interval bits. Una ventana [t0, t1) se codifica después reanudando desde
+ * el checkpoint anterior más cercano, con costo O(interval + ventana).
+ *
+ * En HDB3 y B8ZS cada checkpoint se recorre hacia atrás hasta el inicio de
+ * un bloque de sustitución, para que la codificación reanudada tome las
+ * mismas decisiones que la codificación completa.
+ */
+final class LineCodingCheckpoints {
+
+    private final BitSequence bits;
+    private final int[] positions;          // Bit donde empieza cada checkpoint (creciente)
+    private final LineCodingState[] states; // Estado del codificador antes de ese bit
+
+    private LineCodingCheckpoints(BitSequence bits, int[] positions, LineCodingState[] states) {
+        this.bits = bits;
+        this.positions = positions;
+        this.states = states;
+    }
+
+    /**
+     * Recorre la secuencia una vez y registra el estado cada interval bits
+     *
+     * @param generator Codificador de línea
+     * @param bits Secuencia completa
+     * @param interval Separación nominal entre checkpoints (en bits)
+     * @return Checkpoints de la secuencia
+     */
+    static LineCodingCheckpoints build(LineCodingGenerator generator, BitSequence bits, int interval) {
+        int substitution = generator.getSubstitutionLength();
+        if (interval < Math.max(1, substitution)) {
+            throw new IllegalArgumentException("Intervalo de checkpoints inválido: " + interval);
+        }
+
+        int count = (bits.length() - 1) / interval + 1;
+        int[] positions = new int[count];
+        LineCodingState[] states = new LineCodingState[count];
+
+        LineCodingState state = generator.createState();
+        LevelSink discard = (firstHalf, secondHalf) -> { };
+        positions[0] = 0;
+        states[0] = new LineCodingState(state);
+
+        int position = 0;
+        for (int k = 1; k < count; k++) {
+            int target = k * interval;
+            if (substitution > 0) {
+                // Alinear al inicio del bloque de sustitución que contiene target
+                int zeroRun = target - 1 - bits.previousSetBit(target - 1);
+                target -= zeroRun % substitution;
+            }
+            generator.encode(bits, position, target, state, discard);
+            position = target;
+            positions[k] = position;
+            states[k] = new LineCodingState(state);
+        }
+        return new LineCodingCheckpoints(bits, positions, states);
+    }
+
+    /**
+     * @return Secuencia para la que se construyeron los checkpoints
+     */
+    BitSequence getBits() {
+        return bits;
+    }
+
+    /**
+     * Índice del último checkpoint que empieza en bitIndex o antes
+     */
+    int floorIndex(int bitIndex) {
+        int found = Arrays.binarySearch(positions, bitIndex);
+        return found >= 0 ? found : Math.max(0, -found - 2);
+    }
+
+    /**
+     * @return Bit donde empieza el checkpoint index
+     */
+    int positionAt(int index) {
+        return positions[index];
+    }
+
+    /**
+     * @return Copia del estado guardado en el checkpoint index (se puede modificar)
+     */
+    LineCodingState stateAt(int index) {
+        return new LineCodingState(states[index]);
+    }
+
+    /**
+     * @return Número de checkpoints
+     */
+    int size() {
+        return positions.length;
+    }
+}
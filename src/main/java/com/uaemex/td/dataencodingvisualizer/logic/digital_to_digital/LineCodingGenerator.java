@@ -1,19 +1,484 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
 
 import com.uaemex.td.dataencodingvisualizer.logic.IGenerator;
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import com.uaemex.td.dataencodingvisualizer.model.EyeDiagram;
+import com.uaemex.td.dataencodingvisualizer.model.SampleBuffer;
+import com.uaemex.td.dataencodingvisualizer.model.SampleSink;
 import com.uaemex.td.dataencodingvisualizer.model.SignalData;
+import com.uaemex.td.dataencodingvisualizer.model.SignalDecimator;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Clase abstracta base para técnicas de codificación de línea (Digital a Digital)
  */
 public abstract class LineCodingGenerator implements IGenerator {
-    protected static final int SAMPLES_PER_BIT = 50; // Puntos por bit para suavidad
+    protected static final int DEFAULT_SAMPLES_PER_BIT = 50; // Puntos por bit para suavidad
+    protected static final int CHECKPOINT_INTERVAL = 4096;   // Bits entre checkpoints de estado
     protected LineCodingState state;
 
+    /** Checkpoints de la última secuencia usada en generateWindow (zoom/desplazamiento) */
+    private LineCodingCheckpoints checkpoints;
+
+    /** Plantillas por byte para el valor actual de samplesPerBit (generateBuffer) */
+    private WaveformTemplates templates;
+
+    /** Número de muestras por bit (parámetro "samplesPerBit") */
+    protected int samplesPerBit;
+
+    /** Código de bloque previo a la codificación (parámetro "blockCode"), null si no hay */
+    private String blockCode;
+
+    /** Aleatorizador previo a la codificación (parámetro "scrambler"), null si no hay */
+    private Scrambler.Polynomial scrambler;
+
+    /** Registro inicial del aleatorizador: en unos, para que una entrada de ceros también cambie */
+    private static final long SCRAMBLER_SEED = -1L;
+
+    /** Última entrada preparada y su resultado (generateWindow reutiliza los checkpoints) */
+    private BitSequence preparedInput;
+    private BitSequence preparedOutput;
+    private String preparedWith;
+
     public LineCodingGenerator() {
         this.state = new LineCodingState();
+        this.samplesPerBit = DEFAULT_SAMPLES_PER_BIT;
+    }
+
+    /**
+     * Valida la cadena binaria y delega en generate(BitSequence, Map)
+     */
+    @Override
+    public List<SignalData> generate(String input, Map<String, Object> params) {
+        if (!isValidBinaryString(input)) {
+            return new ArrayList<>();
+        }
+        return generate(BitSequence.fromString(input), params);
+    }
+
+    /**
+     * Codifica la secuencia de bits empaquetada y la muestrea
+     * Las cargas grandes de técnicas declaradas como transductor se
+     * codifican en paralelo. Esta ruta crea un SignalData por muestra; para
+     * cargas grandes generateBuffer es más rápido (codificación por tabla).
+     */
+    @Override
+    public List<SignalData> generate(BitSequence bits, Map<String, Object> params) {
+        applyParameters(params);
+        bits = prepare(bits);
+        if (getTransducer() != null && bits.length() >= ParallelLineEncoder.PARALLEL_THRESHOLD) {
+            return ParallelLineEncoder.encode(this, bits);
+        }
+        long total = (long) bits.length() * samplesPerBit;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Demasiadas muestras para una lista: " + total
+                    + " (use generateDecimated o generateWindow)");
+        }
+        List<SignalData> data = new ArrayList<>((int) total);
+        encode(bits, 0, bits.length(), createState(), renderer(SampleSink.into(data), 0));
+        return data;
+    }
+
+    /**
+     * Genera la vista diezmada en flujo: solo se almacenan los bits
+     * empaquetados y los bloques del diezmador
+     */
+    @Override
+    public List<SignalData> generateDecimated(BitSequence bits, Map<String, Object> params, int maxPoints) {
+        applyParameters(params);
+        bits = prepare(bits);
+        SignalDecimator decimator = new SignalDecimator((long) bits.length() * samplesPerBit, maxPoints);
+        encode(bits, 0, bits.length(), createState(), renderer(decimator, 0));
+        return decimator.toSignalData();
+    }
+
+    /**
+     * Codifica la secuencia en un búfer columnar (arreglos x, y)
+     *
+     * Las técnicas declaradas como transductor sin sustitución se codifican por tabla:
+     * cada byte copia su plantilla precalculada y el estado siguiente se toma
+     * de la tabla. El resto usa el codificador normal.
+     *
+     * @param bits Secuencia a codificar
+     * @param params Mapa de parámetros (ver generate(String, Map))
+     * @return Búfer con las mismas muestras que generate(BitSequence, Map)
+     * @throws IllegalArgumentException si las muestras no caben en un arreglo
+     */
+    public SampleBuffer generateBuffer(BitSequence bits, Map<String, Object> params) {
+        applyParameters(params);
+        bits = prepare(bits);
+        long total = (long) bits.length() * samplesPerBit;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Demasiadas muestras para un búfer: " + total
+                    + " (use generateDecimated o generateWindow)");
+        }
+        SampleBuffer buffer = new SampleBuffer((int) total);
+
+        if (templates == null || templates.getSamplesPerBit() != samplesPerBit) {
+            templates = WaveformTemplates.build(this);
+        }
+        if (templates != null) {
+            templates.render(bits, buffer);
+        } else {
+            encode(bits, 0, bits.length(), createState(), renderer(buffer, 0));
+        }
+        return buffer;
+    }
+
+    /**
+     * Acumula el diagrama de ojo de la secuencia en flujo
+     * Las muestras se pliegan en el acumulador conforme se generan, así
+     * que la memoria depende solo de la rejilla y no del número de bits.
+     * El rango vertical cubre el nivel máximo de la técnica con un margen del 25%.
+     *
+     * @param bits Secuencia a codificar
+     * @param params Mapa de parámetros (ver generate(String, Map))
+     * @param columns Celdas horizontales (la ventana abarca dos símbolos)
+     * @param rows Celdas verticales
+     * @return Diagrama de ojo con periodo de símbolo en unidades de bit
+     */
+    public EyeDiagram generateEye(BitSequence bits, Map<String, Object> params, int columns, int rows) {
+        applyParameters(params);
+        bits = prepare(bits);
+        double peak = 1.25 * getPeakLevel();
+        EyeDiagram eye = new EyeDiagram(getBitsPerSymbol(), columns, rows, -peak, peak);
+        encode(bits, 0, bits.length(), createState(), renderer(eye, 0));
+        return eye;
+    }
+
+    /**
+     * Codifica la secuencia sin muestrear y calcula sus estadísticas
+     * (DC, rachas, transiciones, sustituciones) en una sola pasada
+     * Las cargas grandes de técnicas declaradas como transductor se
+     * analizan por bloques en paralelo.
+     *
+     * @param bits Secuencia a codificar
+     * @param params Mapa de parámetros (ver generate(String, Map))
+     * @return Estadísticas de la señal codificada
+     */
+    public LineCodeStatistics analyze(BitSequence bits, Map<String, Object> params) {
+        applyParameters(params);
+        bits = prepare(bits);
+        if (getTransducer() != null && bits.length() >= ParallelLineEncoder.PARALLEL_THRESHOLD) {
+            return ParallelLineEncoder.analyze(this, bits);
+        }
+        LineCodeStatistics statistics = new LineCodeStatistics();
+        encode(bits, 0, bits.length(), createState(), statistics);
+        return statistics;
+    }
+
+    /**
+     * Valida la cadena binaria y delega en generateWindow(BitSequence, Map, double, double)
+     */
+    @Override
+    public List<SignalData> generateWindow(String input, Map<String, Object> params, double t0, double t1) {
+        if (!isValidBinaryString(input)) {
+            return new ArrayList<>();
+        }
+        return generateWindow(BitSequence.fromString(input), params, t0, t1);
+    }
+
+    /**
+     * Codifica solo los bits que se traslapan con [t0, t1] (t en unidades de bit)
+     * y devuelve sus muestras dentro de [t0, t1], igual que recortar generate().
+     *
+     * Las técnicas sin estado codifican la ventana directamente. Las técnicas
+     * con estado reanudan desde el checkpoint anterior más cercano; los
+     * checkpoints se calculan en la primera llamada para una secuencia y se
+     * reutilizan mientras se pase la misma instancia de BitSequence.
+     */
+    @Override
+    public List<SignalData> generateWindow(BitSequence bits, Map<String, Object> params, double t0, double t1) {
+        applyParameters(params);
+        bits = prepare(bits);
+        List<SignalData> data = new ArrayList<>();
+
+        int first = (int) Math.max(0, Math.floor(t0));
+        if (first >= bits.length() || t1 < t0 || t1 < 0) {
+            return data;
+        }
+        // Hasta el bit que contiene t1 (incluido si t1 cae justo en su inicio)
+        int last = (int) Math.min(bits.length(), Math.floor(t1) + 1);
+
+        int start;
+        LineCodingState windowState;
+        if (isStateless()) {
+            start = first - first % getBitsPerSymbol();
+            windowState = createState();
+        } else {
+            LineCodingCheckpoints index = getCheckpoints(bits);
+            int k = index.floorIndex(first);
+            start = index.positionAt(k);
+            windowState = index.stateAt(k);
+        }
+
+        // Codificar unos bits de más para que una sustitución o un símbolo que
+        // cruce el final de la ventana se decida igual que en la señal completa
+        int lookahead = Math.max(getSubstitutionLength(), getBitsPerSymbol() - 1);
+        int end = Math.min(bits.length(), last + lookahead);
+        LevelSink window = renderer(SampleSink.clip(SampleSink.into(data), t0, t1), first);
+        encode(bits, start, end, windowState, clip(window, start, first, last));
+        return data;
+    }
+
+    /**
+     * Aplica a la entrada el código de bloque y el aleatorizador configurados
+     * (en ese orden). El resultado se conserva mientras se pase la misma
+     * instancia de BitSequence, para que los checkpoints de generateWindow
+     * sigan siendo válidos.
+     */
+    private BitSequence prepare(BitSequence bits) {
+        if (blockCode == null && scrambler == null) {
+            return bits;
+        }
+        String stages = blockCode + "/" + scrambler;
+        if (preparedInput != bits || !stages.equals(preparedWith)) {
+            BitSequence work = bits;
+            BlockCoder coder = createBlockCoder();
+            if (coder != null) {
+                work = coder.encode(work).concat(coder.flush());
+            }
+            Scrambler lfsr = createScrambler();
+            if (lfsr != null) {
+                work = lfsr.scramble(work);
+            }
+            preparedOutput = work;
+            preparedInput = bits;
+            preparedWith = stages;
+        }
+        return preparedOutput;
+    }
+
+    /**
+     * Crea el código de bloque configurado (para sesiones y verificación)
+     *
+     * @return Nuevo codificador de bloque, o null si no hay
+     */
+    BlockCoder createBlockCoder() {
+        return BlockCoder.fromParameter(blockCode);
+    }
+
+    /**
+     * Crea el aleatorizador configurado (para sesiones y verificación)
+     *
+     * @return Nuevo aleatorizador con el registro inicial, o null si no hay
+     */
+    Scrambler createScrambler() {
+        return scrambler != null ? new Scrambler(scrambler, SCRAMBLER_SEED) : null;
+    }
+
+    /**
+     * Obtiene los checkpoints de bits, construyéndolos si la secuencia cambió
+     */
+    private LineCodingCheckpoints getCheckpoints(BitSequence bits) {
+        if (checkpoints == null || checkpoints.getBits() != bits) {
+            checkpoints = LineCodingCheckpoints.build(this, bits, CHECKPOINT_INTERVAL);
+        }
+        return checkpoints;
+    }
+
+    /**
+     * Crea un destino que solo reenvía los bits [from, to) de una codificación
+     * que empieza en el bit start
+     */
+    private static LevelSink clip(LevelSink sink, int start, int from, int to) {
+        return new LevelSink() {
+            private int bitIndex = start;
+
+            @Override
+            public void accept(double firstHalf, double secondHalf) {
+                if (bitIndex >= from && bitIndex < to) {
+                    sink.accept(firstHalf, secondHalf);
+                }
+                bitIndex++;
+            }
+        };
+    }
+
+    /**
+     * Lee los parámetros de resolución del mapa
+     * Las claves ausentes vuelven a su valor por defecto, de modo que una
+     * petición no hereda la configuración de la anterior.
+     *
+     * @param params Mapa de parámetros (puede ser null)
+     * @throws IllegalArgumentException si "samplesPerBit" es menor que 2,
+     *         "blockCode" no es un código conocido o "scrambler" no es un
+     *         polinomio conocido
+     */
+    protected void applyParameters(Map<String, Object> params) {
+        if (params != null && params.containsKey("samplesPerBit")) {
+            setSamplesPerBit(((Number) params.get("samplesPerBit")).intValue());
+        } else {
+            samplesPerBit = DEFAULT_SAMPLES_PER_BIT;
+        }
+        scrambler = params != null ? Scrambler.Polynomial.fromParameter(params.get("scrambler")) : null;
+        blockCode = null;
+        if (params != null && BlockCoder.fromParameter(params.get("blockCode")) != null) {
+            blockCode = params.get("blockCode").toString();
+        }
+    }
+
+    /**
+     * Abre una sesión de codificación incremental
+     * La sesión conserva el estado del codificador entre llamadas a append.
+     *
+     * @param params Mapa de parámetros (ver generate(String, Map))
+     * @return Nueva sesión que empieza en t = 0
+     */
+    public LineCodingSession openSession(Map<String, Object> params) {
+        applyParameters(params);
+        return new LineCodingSession(this);
+    }
+
+    /**
+     * Declaración de la técnica como transductor de estados finitos
+     * Las técnicas declaradas así comparten el mismo motor de codificación,
+     * la codificación paralela, los checkpoints y las plantillas por byte.
+     *
+     * @return Transductor de la técnica, o null solo si la subclase también
+     *         sobrescribe encode (ver MultilevelLineCodingGenerator)
+     */
+    protected abstract LineCodeTransducer getTransducer();
+
+    /**
+     * Crea un decodificador en flujo para la señal de esta técnica
+     * Usa las muestras por bit actuales (aplicar los parámetros antes).
+     *
+     * @param output Destino de los bits recuperados (0 o 1)
+     * @return Decodificador, o null si la técnica no tiene decodificador
+     */
+    public LineDecoder createDecoder(IntConsumer output) {
+        return null;
+    }
+
+    /**
+     * Codifica los bits [from, to) en niveles de voltaje
+     * Emite un par de niveles (primera y segunda mitad) por bit. El estado
+     * del codificador se lee de state al empezar y se guarda en state al
+     * terminar, de modo que llamadas sucesivas continúan la señal.
+     * Por defecto ejecuta el transductor de la técnica; las técnicas sin
+     * transductor (getTransducer() devuelve null) lo sobrescriben.
+     *
+     * @param bits Secuencia de bits a codificar
+     * @param from Primer bit a codificar (inclusivo)
+     * @param to Último bit a codificar (exclusivo)
+     * @param state Estado del codificador (se actualiza)
+     * @param sink Destino de los niveles
+     */
+    protected void encode(BitSequence bits, int from, int to,
+                          LineCodingState state, LevelSink sink) {
+        LineCodeTransducer transducer = getTransducer();
+        state.setTransducerState(transducer.encode(bits, from, to, state.getTransducerState(), sink));
+    }
+
+    /**
+     * Crea el estado inicial del codificador
+     *
+     * @return Estado al inicio de la señal
+     */
+    protected LineCodingState createState() {
+        LineCodingState initial = new LineCodingState();
+        LineCodeTransducer transducer = getTransducer();
+        if (transducer != null) {
+            initial.setTransducerState(transducer.getInitialState());
+        }
+        return initial;
+    }
+
+    /**
+     * Bits que forman un símbolo de línea
+     * Las ventanas y las sesiones nunca parten un símbolo.
+     *
+     * @return 1 por defecto (2 en 2B1Q y PAM-4)
+     */
+    protected int getBitsPerSymbol() {
+        return 1;
+    }
+
+    /**
+     * Nivel absoluto máximo que produce la técnica (rango del diagrama de ojo)
+     *
+     * @return 1 por defecto (3 en 2B1Q y PAM-4)
+     */
+    protected double getPeakLevel() {
+        return 1.0;
+    }
+
+    /**
+     * Indica si cada bit se codifica sin depender de los anteriores
+     * Las técnicas sin estado generan ventanas sin recorrer checkpoints.
+     *
+     * @return true si el transductor tiene un solo estado (NRZ-L, Manchester)
+     */
+    protected boolean isStateless() {
+        LineCodeTransducer transducer = getTransducer();
+        return transducer != null && transducer.getStateCount() == 1;
+    }
+
+    /**
+     * Longitud de la racha de ceros que la técnica sustituye (0 si no sustituye)
+     * Una sesión incremental retiene los ceros finales que aún podrían formar
+     * parte de una sustitución hasta recibir más bits.
+     *
+     * @return Número de ceros consecutivos sustituidos (4 en HDB3, 8 en B8ZS)
+     */
+    protected int getSubstitutionLength() {
+        LineCodeTransducer transducer = getTransducer();
+        return transducer != null ? transducer.getSubstitutionLength() : 0;
+    }
+
+    /**
+     * Crea un destino de niveles que muestrea cada bit en samplesPerBit puntos
+     * La primera mitad de las muestras toma el primer nivel y el resto el segundo.
+     *
+     * @param sink Destino de las muestras
+     * @param startTime Tiempo del primer bit (en unidades de bit)
+     * @return Destino de niveles que emite las muestras en sink
+     */
+    protected LevelSink renderer(SampleSink sink, double startTime) {
+        int halfSamples = samplesPerBit / 2;
+        return new LevelSink() {
+            private double time = startTime;
+
+            @Override
+            public void accept(double firstHalf, double secondHalf) {
+                for (int i = 0; i < samplesPerBit; i++) {
+                    double x = time + (i / (double) samplesPerBit);
+                    sink.accept(x, i < halfSamples ? firstHalf : secondHalf);
+                }
+                time++;
+            }
+        };
+    }
+
+    /**
+     * Establece el número de muestras por bit
+     *
+     * @param samplesPerBit Muestras por bit (mínimo 2, una por cada mitad del bit)
+     * @throws IllegalArgumentException si es menor que 2
+     */
+    public void setSamplesPerBit(int samplesPerBit) {
+        if (samplesPerBit < 2) {
+            throw new IllegalArgumentException("Se requieren al menos 2 muestras por bit");
+        }
+        this.samplesPerBit = samplesPerBit;
+    }
+
+    @Override
+    public int getSamplesPerBit() {
+        return samplesPerBit;
+    }
+
+    @Override
+    public Map<String, String> getConfigurableParameters() {
+        return Map.of(
+                "samplesPerBit", "Muestras por bit (resolución)",
+                "blockCode", "Código de bloque previo: 4B5B, 8B10B, 64B66B o NONE",
+                "scrambler", "Aleatorizador previo: X7_X4, X58_X39 o NONE"
+        );
     }
 
     /**
@@ -30,7 +495,7 @@ public abstract class LineCodingGenerator implements IGenerator {
                                  double startY, double endY) {
         int transitionSamples = 5;
         for (int i = 0; i <= transitionSamples; i++) {
-            double x = startX + (i * (1.0 / SAMPLES_PER_BIT));
+            double x = startX + (i * (1.0 / samplesPerBit));
             double y = startY + ((endY - startY) * i / transitionSamples);
             data.add(new SignalData(x, y));
         }
@@ -40,6 +505,6 @@ public abstract class LineCodingGenerator implements IGenerator {
      * Valida que la entrada sea una cadena binaria válida
      */
     protected boolean isValidBinaryString(String input) {
-        return input != null && input.matches("[01]+");
+        return BitSequence.isBinary(input);
     }
 }
\ No newline at end of file
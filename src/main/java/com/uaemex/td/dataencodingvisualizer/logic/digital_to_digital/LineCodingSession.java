@@ -0,0 +1,205 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import com.uaemex.td.dataencodingvisualizer.model.SampleSink;
+import com.uaemex.td.dataencodingvisualizer.model.SignalData;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sesión de codificación de línea incremental
+ *
+ * Permite agregar bits poco a poco (por ejemplo, mientras el usuario escribe
+ * o cuando llegan datos en flujo) y obtener solo las muestras nuevas. El
+ * estado del codificador (nivel NRZ-I, polaridad AMI/HDB3/B8ZS, nivel de
+ * Manchester Diferencial) se conserva en un LineCodingState entre llamadas,
+ * por lo que cada append cuesta O(bits nuevos).
+ *
+ * En HDB3 y B8ZS los ceros finales que todavía podrían completar una
+ * sustitución se retienen hasta el siguiente append o hasta finish().
+ * En 2B1Q y PAM-4 se retiene el bit de un símbolo incompleto.
+ * La concatenación de todas las salidas es idéntica a codificar la entrada
+ * completa con generate().
+ *
+ * Si se configuró un código de bloque o un aleatorizador, cada bloque se
+ * procesa al agregarse continuando el estado del anterior; los bits que no
+ * completan un grupo del código de bloque se retienen hasta finish().
+ * Con código de bloque, getEncodedBits() cuenta bits de código.
+ *
+ * Se crea con LineCodingGenerator.openSession(Map).
+ */
+public class LineCodingSession {
+
+    private final LineCodingGenerator generator;
+    private final LineCodingState state;
+    private final BlockCoder blockCoder; // null si no hay código de bloque
+    private final Scrambler scrambler;   // null si no se aleatoriza
+
+    private BitSequence partialSymbol = BitSequence.empty(); // Bits de un símbolo incompleto (2B1Q, PAM-4)
+
+    private long appendedBits;   // Bits recibidos
+    private long encodedBits;    // Bits ya codificados (tiempo de la próxima muestra)
+    private boolean finished;
+
+    LineCodingSession(LineCodingGenerator generator) {
+        this.generator = generator;
+        this.state = generator.createState();
+        this.blockCoder = generator.createBlockCoder();
+        this.scrambler = generator.createScrambler();
+    }
+
+    /**
+     * Agrega bits en forma de cadena binaria
+     *
+     * @param input Cadena de '0' y '1'
+     * @return Muestras nuevas (vacía si la entrada no es binaria)
+     */
+    public List<SignalData> append(String input) {
+        if (!BitSequence.isBinary(input)) {
+            return new ArrayList<>();
+        }
+        return append(BitSequence.fromString(input));
+    }
+
+    /**
+     * Agrega bits empaquetados
+     *
+     * @param bits Bits nuevos
+     * @return Muestras correspondientes a los bits que ya pudieron codificarse
+     */
+    public List<SignalData> append(BitSequence bits) {
+        List<SignalData> data = new ArrayList<>();
+        append(bits, SampleSink.into(data));
+        return data;
+    }
+
+    /**
+     * Agrega bits empaquetados emitiendo las muestras nuevas en sink
+     *
+     * @param bits Bits nuevos
+     * @param sink Destino de las muestras
+     * @throws IllegalStateException si la sesión ya fue finalizada
+     */
+    public void append(BitSequence bits, SampleSink sink) {
+        appendLevels(bits, generator.renderer(sink, encodedBits));
+    }
+
+    /**
+     * Agrega bits empaquetados emitiendo los niveles nuevos en sink
+     *
+     * @param bits Bits nuevos
+     * @param sink Destino de los niveles
+     * @throws IllegalStateException si la sesión ya fue finalizada
+     */
+    public void appendLevels(BitSequence bits, LevelSink sink) {
+        if (finished) {
+            throw new IllegalStateException("La sesión ya fue finalizada");
+        }
+        appendedBits += bits.length();
+        if (blockCoder != null) {
+            bits = blockCoder.encode(bits);
+        }
+        encodeLine(bits, sink);
+    }
+
+    /**
+     * Aleatoriza (si corresponde) y codifica en línea bits ya preparados
+     */
+    private void encodeLine(BitSequence bits, LevelSink sink) {
+        if (scrambler != null) {
+            bits = scrambler.scramble(bits);
+        }
+
+        // Retener los bits que todavía no completan un símbolo
+        int symbolBits = generator.getBitsPerSymbol();
+        if (symbolBits > 1) {
+            bits = partialSymbol.concat(bits);
+            int complete = bits.length() - bits.length() % symbolBits;
+            partialSymbol = bits.subSequence(complete, bits.length());
+            bits = bits.subSequence(0, complete);
+        }
+
+        // Anteponer los ceros retenidos en la llamada anterior
+        int pending = state.getConsecutiveZeros();
+        BitSequence work = pending == 0 ? bits : BitSequence.zeros(pending).concat(bits);
+
+        // Retener los ceros finales que aún no completan una sustitución
+        int substitution = generator.getSubstitutionLength();
+        int hold = substitution > 0 ? work.trailingZeros() % substitution : 0;
+
+        int ready = work.length() - hold;
+        generator.encode(work, 0, ready, state, sink);
+        state.setConsecutiveZeros(hold);
+        encodedBits += ready;
+    }
+
+    /**
+     * Finaliza la sesión codificando los bits retenidos
+     *
+     * @return Muestras de los ceros retenidos (puede estar vacía)
+     */
+    public List<SignalData> finish() {
+        List<SignalData> data = new ArrayList<>();
+        finishLevels(generator.renderer(SampleSink.into(data), encodedBits));
+        return data;
+    }
+
+    /**
+     * Finaliza la sesión emitiendo las muestras de los ceros retenidos en sink
+     *
+     * @param sink Destino de las muestras
+     */
+    public void finish(SampleSink sink) {
+        finishLevels(generator.renderer(sink, encodedBits));
+    }
+
+    /**
+     * Finaliza la sesión emitiendo los niveles de los ceros retenidos en sink
+     *
+     * @param sink Destino de los niveles
+     */
+    public void finishLevels(LevelSink sink) {
+        if (finished) {
+            return;
+        }
+        if (blockCoder != null) {
+            // Último grupo incompleto, rellenado con ceros
+            encodeLine(blockCoder.flush(), sink);
+        }
+        if (!partialSymbol.isEmpty()) {
+            // Símbolo incompleto: el codificador lo completa con ceros
+            generator.encode(partialSymbol, 0, partialSymbol.length(), state, sink);
+            encodedBits += partialSymbol.length();
+            partialSymbol = BitSequence.empty();
+        }
+        int pending = state.getConsecutiveZeros();
+        if (pending > 0) {
+            // Menos ceros que la longitud de sustitución: se codifican sin sustituir
+            generator.encode(BitSequence.zeros(pending), 0, pending, state, sink);
+            state.setConsecutiveZeros(0);
+            encodedBits += pending;
+        }
+        finished = true;
+    }
+
+    /**
+     * @return Número de bits recibidos con append
+     */
+    public long getAppendedBits() {
+        return appendedBits;
+    }
+
+    /**
+     * @return Número de bits ya codificados (los retenidos no cuentan)
+     */
+    public long getEncodedBits() {
+        return encodedBits;
+    }
+
+    /**
+     * @return true si ya se llamó a finish()
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+}
@@ -8,6 +8,7 @@ public class LineCodingState {
     private int lastLevel;          // Último nivel de voltaje (-1, 0, 1)
     private boolean lastPolarity;   // true = positivo, false = negativo
     private int consecutiveZeros;   // Contador de ceros consecutivos
+    private int transducerState;    // Estado del LineCodeTransducer de la técnica
 
     public LineCodingState() {
         this.lastLevel = 0;
@@ -15,6 +16,16 @@ public class LineCodingState {
         this.consecutiveZeros = 0;
     }
 
+    /**
+     * Crea una copia independiente del estado (usada en checkpoints)
+     */
+    public LineCodingState(LineCodingState other) {
+        this.lastLevel = other.lastLevel;
+        this.lastPolarity = other.lastPolarity;
+        this.consecutiveZeros = other.consecutiveZeros;
+        this.transducerState = other.transducerState;
+    }
+
     public int getLastLevel() {
         return lastLevel;
     }
@@ -50,4 +61,12 @@ public class LineCodingState {
     public void setConsecutiveZeros(int count) {
         this.consecutiveZeros = count;
     }
+
+    public int getTransducerState() {
+        return transducerState;
+    }
+
+    public void setTransducerState(int transducerState) {
+        this.transducerState = transducerState;
+    }
 }
@@ -0,0 +1,134 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.SampleSink;
+import java.util.function.IntConsumer;
+
+/**
+ * Clase base de los decodificadores de línea en flujo
+ *
+ * Recibe los niveles muestreados (samplesPerBit muestras por bit, como los
+ * produce LineCodingGenerator) en bloques de cualquier tamaño. De cada bit
+ * toma una muestra en el centro de cada mitad, la cuantiza a -1, 0 o +1 y
+ * la subclase recupera el bit y detecta violaciones de código.
+ *
+ * Los bits recuperados se entregan en orden a un IntConsumer (0 o 1), de
+ * modo que nada de la señal ni de los bits se guarda en memoria.
+ */
+public abstract class LineDecoder implements SampleSink {
+
+    private final int samplesPerBit;
+    private final int firstIndex;   // Muestra central de la primera mitad
+    private final int secondIndex;  // Muestra central de la segunda mitad
+    private final IntConsumer output;
+
+    private int sampleInBit;
+    private int firstLevel;
+    private int secondLevel;
+
+    private long decodedBits;
+    private long violations;
+
+    /**
+     * Constructor
+     *
+     * @param samplesPerBit Muestras por bit de la señal (mínimo 2)
+     * @param output Destino de los bits recuperados
+     */
+    protected LineDecoder(int samplesPerBit, IntConsumer output) {
+        if (samplesPerBit < 2) {
+            throw new IllegalArgumentException("Se requieren al menos 2 muestras por bit");
+        }
+        int halfSamples = samplesPerBit / 2;
+        this.samplesPerBit = samplesPerBit;
+        this.firstIndex = halfSamples / 2;
+        this.secondIndex = halfSamples + (samplesPerBit - halfSamples) / 2;
+        this.output = output;
+    }
+
+    /**
+     * Recibe una muestra (el tiempo se ignora: las muestras llegan en orden)
+     */
+    @Override
+    public void accept(double x, double y) {
+        acceptSample(y);
+    }
+
+    /**
+     * Recibe un bloque de muestras
+     *
+     * @param samples Niveles muestreados
+     * @param offset Posición de la primera muestra
+     * @param count Número de muestras
+     */
+    public void accept(double[] samples, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            acceptSample(samples[i]);
+        }
+    }
+
+    private void acceptSample(double y) {
+        if (sampleInBit == firstIndex) {
+            firstLevel = quantize(y);
+        } else if (sampleInBit == secondIndex) {
+            secondLevel = quantize(y);
+        }
+        if (++sampleInBit == samplesPerBit) {
+            sampleInBit = 0;
+            decodeSymbol(firstLevel, secondLevel);
+        }
+    }
+
+    /**
+     * Decodifica un bit a partir de sus dos mitades cuantizadas
+     *
+     * @param first Nivel de la primera mitad (-1, 0, +1)
+     * @param second Nivel de la segunda mitad (-1, 0, +1)
+     */
+    protected abstract void decodeSymbol(int first, int second);
+
+    /**
+     * Indica el fin de la señal: entrega los bits que el decodificador
+     * todavía retiene para detectar sustituciones
+     */
+    public void finish() {
+    }
+
+    /**
+     * Entrega un bit recuperado
+     */
+    protected void emit(int bit) {
+        decodedBits++;
+        output.accept(bit);
+    }
+
+    /**
+     * Registra una violación de código no explicada por una sustitución
+     */
+    protected void violation() {
+        violations++;
+    }
+
+    /**
+     * @return Número de bits recuperados
+     */
+    public long getDecodedBits() {
+        return decodedBits;
+    }
+
+    /**
+     * @return Número de violaciones de código detectadas
+     */
+    public long getViolationCount() {
+        return violations;
+    }
+
+    /**
+     * Cuantiza un nivel a -1, 0 o +1 (umbrales en ±0.5)
+     */
+    static int quantize(double level) {
+        if (level > 0.5) {
+            return 1;
+        }
+        return level < -0.5 ? -1 : 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+/**
+ * Multi-Level Transmit 3 (MLT-3), usado en 100BASE-TX
+ * Bit 1 = avanzar al siguiente nivel del ciclo 0, +V, 0, -V
+ * Bit 0 = sin cambio (mantiene el nivel anterior)
+ * Un ciclo completo requiere 4 unos, así que la frecuencia fundamental es
+ * la cuarta parte de la tasa de bits (la mitad que en NRZ-I).
+ */
+public class MLT3Generator extends LineCodingGenerator {
+
+    /**
+     * Estados: posición en el ciclo de niveles
+     * 0 = 0 (inicial), 1 = +V, 2 = 0, 3 = -V
+     */
+    private static final LineCodeTransducer TRANSDUCER = LineCodeTransducer.builder(4)
+            .initial(0)
+            .on(0, 0, 0.0, 0)          // Bit 0: mantiene el nivel
+            .on(1, 0, 1.0, 1)
+            .on(2, 0, 0.0, 2)
+            .on(3, 0, -1.0, 3)
+            .on(0, 1, 1.0, 1)          // Bit 1: siguiente nivel del ciclo
+            .on(1, 1, 0.0, 2)
+            .on(2, 1, -1.0, 3)
+            .on(3, 1, 0.0, 0)
+            .build();
+
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return TRANSDUCER;
+    }
+
+    @Override
+    public String getName() {
+        return "MLT-3 (Multi-Level Transmit 3)";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Tres niveles en ciclo 0, +V, 0, -V: bit '1' avanza al siguiente nivel, bit '0' lo mantiene. Usado en 100BASE-TX";
+    }
+}
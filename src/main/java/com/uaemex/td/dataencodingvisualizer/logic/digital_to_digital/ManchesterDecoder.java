@@ -0,0 +1,39 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Decodificador Manchester / Manchester Diferencial
+ *
+ * Manchester (IEEE 802.3): bajo→alto = '1', alto→bajo = '0'.
+ * Diferencial: transición al inicio del bit = '0', sin transición = '1'.
+ * Violación: falta la transición a la mitad del bit.
+ */
+public class ManchesterDecoder extends LineDecoder {
+
+    private final boolean differential;
+    private int previousEnd = 1; // Nivel inicial de Manchester Diferencial
+
+    /**
+     * @param samplesPerBit Muestras por bit de la señal
+     * @param output Destino de los bits recuperados
+     * @param differential true para Manchester Diferencial
+     */
+    public ManchesterDecoder(int samplesPerBit, IntConsumer output, boolean differential) {
+        super(samplesPerBit, output);
+        this.differential = differential;
+    }
+
+    @Override
+    protected void decodeSymbol(int first, int second) {
+        if (first == 0 || second != -first) {
+            violation();
+        }
+        if (differential) {
+            emit(first == previousEnd ? 1 : 0);
+            previousEnd = second != 0 ? second : -first;
+        } else {
+            emit(second > 0 ? 1 : 0);
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Manchester Encoding (IEEE 802.3)
@@ -13,46 +10,20 @@ import java.util.Map;
  */
 public class ManchesterGenerator extends LineCodingGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
-
-        double time = 0;
-        int halfSamples = SAMPLES_PER_BIT / 2;
-
-        for (char bit : input.toCharArray()) {
-            double firstHalfLevel, secondHalfLevel;
-
-            if (bit == '1') {
-                // Bit 1: transición de bajo (-1) a alto (+1)
-                firstHalfLevel = -1.0;
-                secondHalfLevel = 1.0;
-            } else {
-                // Bit 0: transición de alto (+1) a bajo (-1)
-                firstHalfLevel = 1.0;
-                secondHalfLevel = -1.0;
-            }
+    /** Un solo estado: siempre hay transición a la mitad del bit */
+    private static final LineCodeTransducer TRANSDUCER = LineCodeTransducer.builder(1)
+            .on(0, 0, 1.0, -1.0, 0)   // Bit 0: alto → bajo
+            .on(0, 1, -1.0, 1.0, 0)   // Bit 1: bajo → alto
+            .build();
 
-            // Primera mitad del bit
-            for (int i = 0; i < halfSamples; i++) {
-                double x = time + (i / (double) SAMPLES_PER_BIT);
-                data.add(new SignalData(x, firstHalfLevel));
-            }
-
-            // Segunda mitad del bit (con transición)
-            for (int i = halfSamples; i < SAMPLES_PER_BIT; i++) {
-                double x = time + (i / (double) SAMPLES_PER_BIT);
-                data.add(new SignalData(x, secondHalfLevel));
-            }
-
-            time++;
-        }
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return TRANSDUCER;
+    }
 
-        return data;
+    @Override
+    public LineDecoder createDecoder(IntConsumer output) {
+        return new ManchesterDecoder(samplesPerBit, output, false);
     }
 
     @Override
@@ -0,0 +1,87 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+
+/**
+ * Clase base de los códigos de línea de 4 niveles (2 bits por símbolo)
+ *
+ * Cada par de bits (dibit) se convierte en un nivel con una tabla de 4
+ * entradas, indexada por primer bit | segundo bit << 1. El símbolo dura
+ * dos intervalos de bit, así que la tasa de símbolos es la mitad de la
+ * tasa de bits. Si la secuencia tiene un número impar de bits, el último
+ * se completa con un '0' y solo ocupa su propio intervalo.
+ *
+ * Los bits se leen palabra por palabra (32 símbolos por palabra).
+ */
+public abstract class MultilevelLineCodingGenerator extends LineCodingGenerator {
+
+    /**
+     * @return Tabla de niveles indexada por dibit (bit 0 = primer bit transmitido)
+     */
+    protected abstract double[] getSymbolLevels();
+
+    /**
+     * Los códigos de 4 niveles no tienen estado entre símbolos y se codifican
+     * palabra por palabra en encode, sin transductor
+     */
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return null;
+    }
+
+    @Override
+    protected int getBitsPerSymbol() {
+        return 2;
+    }
+
+    @Override
+    protected double getPeakLevel() {
+        double peak = 0.0;
+        for (double level : getSymbolLevels()) {
+            peak = Math.max(peak, Math.abs(level));
+        }
+        return peak;
+    }
+
+    @Override
+    protected boolean isStateless() {
+        return true;
+    }
+
+    @Override
+    protected void encode(BitSequence bits, int from, int to,
+                          LineCodingState state, LevelSink sink) {
+        double[] levels = getSymbolLevels();
+        int i = from;
+        while (i + 1 < to) {
+            int count = Math.min(64, (to - i) & ~1);
+            long word = bits.bits(i, count);
+            for (int k = 0; k < count; k += 2) {
+                double level = levels[(int) (word & 3)];
+                sink.acceptRepeated(level, level, 2);
+                word >>>= 2;
+            }
+            i += count;
+        }
+        if (i < to) {
+            // Bit final sin pareja: se completa con '0'
+            double level = levels[bits.bit(i)];
+            sink.accept(level, level);
+        }
+    }
+
+    /**
+     * Construye la tabla de niveles a partir de la notación de la norma
+     *
+     * @param dibits Dibits en notación "primer bit, segundo bit" (p. ej. "10")
+     * @param values Nivel de cada dibit
+     * @return Tabla indexada por primer bit | segundo bit << 1
+     */
+    protected static double[] symbolTable(String[] dibits, double[] values) {
+        double[] table = new double[4];
+        for (int k = 0; k < dibits.length; k++) {
+            table[(int) BitSequence.fromString(dibits[k]).bits(0, 2)] = values[k];
+        }
+        return table;
+    }
+}
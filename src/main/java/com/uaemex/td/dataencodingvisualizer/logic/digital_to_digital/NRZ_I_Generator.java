@@ -1,9 +1,6 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Non-Return to Zero, Inverted (NRZ-I)
@@ -12,33 +9,26 @@ import java.util.Map;
  */
 public class NRZ_I_Generator extends LineCodingGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
-
-        double currentLevel = 1.0; // Nivel inicial positivo
-        double time = 0;
-
-        for (char bit : input.toCharArray()) {
-            // Si es '1', invertir el nivel
-            if (bit == '1') {
-                currentLevel = -currentLevel;
-            }
-            // Si es '0', mantener el nivel actual
+    /**
+     * Estados: nivel actual de la línea
+     * 0 = +1 (inicial), 1 = -1
+     */
+    private static final LineCodeTransducer TRANSDUCER = LineCodeTransducer.builder(2)
+            .initial(0)                // Nivel inicial positivo
+            .on(0, 0, 1.0, 0)          // Bit 0: mantiene el nivel
+            .on(0, 1, -1.0, 1)         // Bit 1: invierte el nivel
+            .on(1, 0, -1.0, 1)
+            .on(1, 1, 1.0, 0)
+            .build();
 
-            // Crear segmento horizontal para todo el bit
-            for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-                double x = time + (i / (double) SAMPLES_PER_BIT);
-                data.add(new SignalData(x, currentLevel));
-            }
-            time++;
-        }
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return TRANSDUCER;
+    }
 
-        return data;
+    @Override
+    public LineDecoder createDecoder(IntConsumer output) {
+        return new NrzDecoder(samplesPerBit, output, true);
     }
 
     @Override
@@ -1,9 +1,6 @@
 package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
 
-import com.uaemex.td.dataencodingvisualizer.model.SignalData;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.function.IntConsumer;
 
 /**
  * Non-Return to Zero, Level (NRZ-L)
@@ -12,27 +9,20 @@ import java.util.Map;
  */
 public class NRZ_L_Generator extends LineCodingGenerator {
 
-    @Override
-    public List<SignalData> generate(String input, Map<String, Object> params) {
-        List<SignalData> data = new ArrayList<>();
-
-        if (!isValidBinaryString(input)) {
-            return data;
-        }
-
-        double time = 0;
-        for (char bit : input.toCharArray()) {
-            double level = (bit == '1') ? 1.0 : -1.0;
+    /** Un solo estado: el nivel depende únicamente del bit */
+    private static final LineCodeTransducer TRANSDUCER = LineCodeTransducer.builder(1)
+            .on(0, 0, -1.0, 0)   // Bit 0: nivel bajo
+            .on(0, 1, 1.0, 0)    // Bit 1: nivel alto
+            .build();
 
-            // Crear segmento horizontal para este bit
-            for (int i = 0; i < SAMPLES_PER_BIT; i++) {
-                double x = time + (i / (double) SAMPLES_PER_BIT);
-                data.add(new SignalData(x, level));
-            }
-            time++;
-        }
+    @Override
+    protected LineCodeTransducer getTransducer() {
+        return TRANSDUCER;
+    }
 
-        return data;
+    @Override
+    public LineDecoder createDecoder(IntConsumer output) {
+        return new NrzDecoder(samplesPerBit, output, false);
     }
 
     @Override
@@ -0,0 +1,40 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Decodificador NRZ-L / NRZ-I
+ *
+ * NRZ-L: nivel alto = '1', nivel bajo = '0'.
+ * NRZ-I: un cambio de nivel respecto al bit anterior = '1'.
+ * Violaciones: nivel cero o cambio de nivel a la mitad del bit.
+ */
+public class NrzDecoder extends LineDecoder {
+
+    private final boolean inverted;
+    private int previousLevel = 1; // Nivel inicial de NRZ-I
+
+    /**
+     * @param samplesPerBit Muestras por bit de la señal
+     * @param output Destino de los bits recuperados
+     * @param inverted true para NRZ-I, false para NRZ-L
+     */
+    public NrzDecoder(int samplesPerBit, IntConsumer output, boolean inverted) {
+        super(samplesPerBit, output);
+        this.inverted = inverted;
+    }
+
+    @Override
+    protected void decodeSymbol(int first, int second) {
+        if (first == 0 || first != second) {
+            violation();
+        }
+        if (inverted) {
+            int level = first != 0 ? first : previousLevel;
+            emit(level != previousLevel ? 1 : 0);
+            previousLevel = level;
+        } else {
+            emit(first > 0 ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+/**
+ * PAM-4 (modulación por amplitud de pulsos de 4 niveles) con código Gray
+ * Niveles normalizados a la amplitud de los demás códigos:
+ * 00 = -1, 01 = -1/3, 11 = +1/3, 10 = +1
+ * Niveles adyacentes difieren en un solo bit, así que un error de un
+ * nivel produce un solo bit erróneo. Usado en 200G/400G Ethernet.
+ */
+public class PAM4Generator extends MultilevelLineCodingGenerator {
+
+    private static final double[] LEVELS = symbolTable(
+            new String[]{"00", "01", "11", "10"},
+            new double[]{-1.0, -1.0 / 3.0, 1.0 / 3.0, 1.0});
+
+    @Override
+    protected double[] getSymbolLevels() {
+        return LEVELS;
+    }
+
+    @Override
+    public String getName() {
+        return "PAM-4 (Pulse Amplitude Modulation, 4 niveles)";
+    }
+
+    @Override
+    public String getDescription() {
+        return "Cuatro niveles con código Gray (2 bits por símbolo): duplica los bits por baudio respecto a NRZ";
+    }
+}
@@ -0,0 +1,184 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import com.uaemex.td.dataencodingvisualizer.model.SampleSink;
+import com.uaemex.td.dataencodingvisualizer.model.SignalData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Codificación paralela (fork/join) de cargas grandes
+ *
+ * Divide la secuencia en bloques de bits y codifica cada bloque en el
+ * ForkJoinPool común, escribiendo directamente en su región del arreglo de
+ * salida (el bit b ocupa las posiciones [b * samplesPerBit, (b + 1) * samplesPerBit)).
+ * Como cada bloque calcula sus tiempos a partir de su primer bit, el resultado
+ * es idéntico al de la codificación secuencial.
+ *
+ * Aplica a cualquier técnica declarada como LineCodeTransducer, con un
+ * escaneo de prefijos en dos fases:
+ * - Fase 1: en paralelo, la función de transición de cada bloque (estado
+ *   final para cada estado inicial, ver LineCodeTransducer.stateMap).
+ * - Escaneo exclusivo: componer las funciones en orden da el estado al
+ *   inicio de cada bloque (un paso por bloque).
+ * - Fase 2: en paralelo, cada bloque se codifica desde su estado.
+ * Las técnicas sin estado omiten la fase 1. En técnicas con sustitución de
+ * ceros (HDB3, B8ZS) cada límite se mueve al siguiente '1', para que ninguna
+ * racha de ceros quede partida entre dos bloques.
+ */
+final class ParallelLineEncoder {
+
+    /** Bits mínimos para que convenga codificar en paralelo */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Bits por bloque (múltiplo de 64: cada bloque lee palabras completas) */
+    private static final int CHUNK_BITS = 1 << 14;
+
+    private ParallelLineEncoder() {
+    }
+
+    /**
+     * Codifica y muestrea la secuencia completa en paralelo
+     *
+     * @param generator Codificador declarado como transductor (con parámetros ya aplicados)
+     * @param bits Secuencia a codificar
+     * @return Lista modificable con las muestras en el mismo orden que la
+     *         codificación secuencial
+     */
+    static List<SignalData> encode(LineCodingGenerator generator, BitSequence bits) {
+        int samplesPerBit = generator.getSamplesPerBit();
+        long total = (long) bits.length() * samplesPerBit;
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Demasiadas muestras para una lista: " + total
+                    + " (use generateDecimated o generateWindow)");
+        }
+
+        LineCodeTransducer transducer = generator.getTransducer();
+        int[] bounds = chunkBounds(bits, transducer.getSubstitutionLength() > 0);
+        int[] starts = startStates(generator, bits, bounds);
+
+        // Fase 2: codificación local de cada bloque desde su estado
+        SignalData[] output = new SignalData[(int) total];
+        forEachChunk(starts.length, c -> {
+            int from = bounds[c];
+            LevelSink sink = generator.renderer(SampleSink.into(output, from * samplesPerBit), from);
+            transducer.encode(bits, from, bounds[c + 1], starts[c], sink);
+        });
+        return new ArrayList<>(Arrays.asList(output));
+    }
+
+    /**
+     * Calcula las estadísticas de la señal en paralelo: cada bloque se
+     * analiza desde su estado y los resultados se combinan en orden
+     *
+     * @param generator Codificador declarado como transductor
+     * @param bits Secuencia a analizar
+     * @return Las mismas estadísticas que una sola pasada secuencial
+     */
+    static LineCodeStatistics analyze(LineCodingGenerator generator, BitSequence bits) {
+        LineCodeTransducer transducer = generator.getTransducer();
+        int[] bounds = chunkBounds(bits, transducer.getSubstitutionLength() > 0);
+        int[] starts = startStates(generator, bits, bounds);
+
+        LineCodeStatistics[] partial = new LineCodeStatistics[starts.length];
+        forEachChunk(starts.length, c -> {
+            partial[c] = new LineCodeStatistics();
+            transducer.encode(bits, bounds[c], bounds[c + 1], starts[c], partial[c]);
+        });
+
+        LineCodeStatistics total = new LineCodeStatistics();
+        for (LineCodeStatistics chunk : partial) {
+            total.append(chunk);
+        }
+        return total;
+    }
+
+    /**
+     * Fase 1 y escaneo exclusivo: estado del transductor al inicio de cada bloque
+     */
+    private static int[] startStates(LineCodingGenerator generator, BitSequence bits, int[] bounds) {
+        LineCodeTransducer transducer = generator.getTransducer();
+        int chunks = bounds.length - 1;
+        int[] starts = new int[chunks];
+        int initial = generator.createState().getTransducerState();
+
+        if (transducer.getStateCount() == 1) {
+            Arrays.fill(starts, initial);
+            return starts;
+        }
+
+        // Fase 1: función de transición de cada bloque
+        int[][] maps = new int[chunks][];
+        forEachChunk(chunks, c -> maps[c] = transducer.stateMap(bits, bounds[c], bounds[c + 1]));
+
+        // Escaneo exclusivo: estado al inicio de cada bloque
+        int state = initial;
+        for (int c = 0; c < chunks; c++) {
+            starts[c] = state;
+            state = maps[c][state];
+        }
+        return starts;
+    }
+
+    /**
+     * Calcula los límites de los bloques: bounds[c] a bounds[c + 1]
+     *
+     * @param alignToOnes true para mover cada límite al siguiente '1'
+     */
+    private static int[] chunkBounds(BitSequence bits, boolean alignToOnes) {
+        int length = bits.length();
+        int[] bounds = new int[(length + CHUNK_BITS - 1) / CHUNK_BITS + 1];
+        int count = 1; // bounds[0] = 0
+        for (int nominal = CHUNK_BITS; nominal < length; nominal += CHUNK_BITS) {
+            int bound = alignToOnes ? bits.nextSetBit(nominal) : nominal;
+            if (bound < 0) {
+                break;
+            }
+            if (bound > bounds[count - 1]) {
+                bounds[count++] = bound;
+            }
+        }
+        bounds[count++] = length;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Ejecuta action para cada bloque [0, chunks) en el ForkJoinPool común
+     */
+    private static void forEachChunk(int chunks, IntConsumer action) {
+        ForkJoinPool.commonPool().invoke(new ChunkTask(0, chunks, action));
+    }
+
+    /**
+     * Tarea que divide el rango de bloques [from, to) hasta llegar a uno solo
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        ChunkTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    action.accept(from);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, middle, action), new ChunkTask(middle, to, action));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * Verificación codificar→decodificar en flujo
+ *
+ * Genera una carga aleatoria por bloques, la codifica con una sesión del
+ * generador, pasa las muestras directamente al decodificador de la misma
+ * técnica y compara cada bit recuperado con el original (desaleatorizado y
+ * decodificado por bloques primero si se configuraron esas etapas). Solo se retienen
+ * los bloques que el decodificador aún no ha entregado, así que la memoria
+ * no depende de la longitud de la carga.
+ */
+public final class RoundTripChecker {
+
+    /** Bits generados por bloque */
+    private static final int BLOCK_BITS = 1 << 16;
+
+    private RoundTripChecker() {
+    }
+
+    /**
+     * Verifica una carga aleatoria de bitCount bits
+     *
+     * @param generator Codificador de línea
+     * @param params Parámetros del generador (samplesPerBit, blockCode, scrambler)
+     * @param bitCount Longitud de la carga
+     * @param seed Semilla del generador aleatorio (la carga es reproducible)
+     * @return Resultado de la verificación
+     * @throws IllegalArgumentException si la técnica no tiene decodificador
+     */
+    public static Result verify(LineCodingGenerator generator, Map<String, Object> params,
+                                long bitCount, long seed) {
+        if (bitCount < 0) {
+            throw new IllegalArgumentException("Longitud inválida: " + bitCount);
+        }
+        LineCodingSession session = generator.openSession(params);
+        Comparison comparison = new Comparison();
+        Scrambler descrambler = generator.createScrambler();
+        BlockCoder blockDecoder = generator.createBlockCoder();
+        BlockStage blockStage = blockDecoder == null ? null : new BlockStage(blockDecoder, comparison);
+
+        IntConsumer decoded = blockStage != null ? blockStage : comparison;
+        IntConsumer output = descrambler == null ? decoded
+                : bit -> decoded.accept(descrambler.descrambleBit(bit));
+        LineDecoder decoder = generator.createDecoder(output);
+        if (decoder == null) {
+            throw new IllegalArgumentException(generator.getName() + " no tiene decodificador");
+        }
+        if (blockDecoder != null) {
+            // El último grupo se rellena con ceros: verificar grupos completos
+            int group = blockDecoder.getDataBits();
+            bitCount = (bitCount + group - 1) / group * group;
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (long remaining = bitCount; remaining > 0; ) {
+            int length = (int) Math.min(BLOCK_BITS, remaining);
+            long[] words = new long[(length + 63) / 64];
+            for (int w = 0; w < words.length; w++) {
+                words[w] = random.nextLong();
+            }
+            BitSequence block = BitSequence.of(words, length);
+            comparison.expect(block);
+            session.append(block, decoder);
+            remaining -= length;
+        }
+        session.finish(decoder);
+        decoder.finish();
+        long codeErrors = 0;
+        if (blockStage != null) {
+            blockStage.flush();
+            codeErrors = blockDecoder.getCodeErrors();
+        }
+
+        return new Result(bitCount, comparison.position, comparison.mismatches,
+                comparison.firstMismatch, decoder.getViolationCount() + codeErrors);
+    }
+
+    /**
+     * Acumula los bits de código recuperados y los decodifica por bloques
+     */
+    private static final class BlockStage implements IntConsumer {
+        private static final int CHUNK_WORDS = 64;
+
+        private final BlockCoder coder;
+        private final IntConsumer output;
+        private final long[] words = new long[CHUNK_WORDS];
+        private int count;
+
+        BlockStage(BlockCoder coder, IntConsumer output) {
+            this.coder = coder;
+            this.output = output;
+        }
+
+        @Override
+        public void accept(int bit) {
+            words[count >>> 6] |= (long) bit << count;
+            if (++count == CHUNK_WORDS * 64) {
+                flush();
+            }
+        }
+
+        void flush() {
+            BitSequence data = coder.decode(BitSequence.of(words, count));
+            for (int i = 0; i < data.length(); i++) {
+                output.accept(data.bit(i));
+            }
+            Arrays.fill(words, 0L);
+            count = 0;
+        }
+    }
+
+    /**
+     * Compara los bits recuperados con los bloques pendientes
+     */
+    private static final class Comparison implements IntConsumer {
+        private final ArrayDeque<BitSequence> pending = new ArrayDeque<>();
+        private int index;          // Posición dentro del bloque más antiguo
+        private long position;      // Bits comparados
+        private long mismatches;
+        private long firstMismatch = -1;
+
+        void expect(BitSequence block) {
+            if (!block.isEmpty()) {
+                pending.addLast(block);
+            }
+        }
+
+        @Override
+        public void accept(int bit) {
+            BitSequence block = pending.peekFirst();
+            if (block == null || block.bit(index) != bit) {
+                // Bit que no corresponde (o sobrante)
+                mismatches++;
+                if (firstMismatch < 0) {
+                    firstMismatch = position;
+                }
+            }
+            position++;
+            if (block != null && ++index == block.length()) {
+                pending.removeFirst();
+                index = 0;
+            }
+        }
+    }
+
+    /**
+     * Resultado de una verificación
+     */
+    public static final class Result {
+        private final long expectedBits;
+        private final long decodedBits;
+        private final long mismatches;
+        private final long firstMismatch;
+        private final long violations;
+
+        Result(long expectedBits, long decodedBits, long mismatches, long firstMismatch, long violations) {
+            this.expectedBits = expectedBits;
+            this.decodedBits = decodedBits;
+            this.mismatches = mismatches;
+            this.firstMismatch = firstMismatch;
+            this.violations = violations;
+        }
+
+        /**
+         * @return Bits de la carga original
+         */
+        public long getExpectedBits() {
+            return expectedBits;
+        }
+
+        /**
+         * @return Bits recuperados por el decodificador
+         */
+        public long getDecodedBits() {
+            return decodedBits;
+        }
+
+        /**
+         * @return Bits recuperados distintos del original
+         */
+        public long getMismatches() {
+            return mismatches;
+        }
+
+        /**
+         * @return Posición del primer bit distinto, o -1 si no hubo
+         */
+        public long getFirstMismatch() {
+            return firstMismatch;
+        }
+
+        /**
+         * @return Violaciones de código detectadas por el decodificador (incluye
+         *         grupos inválidos del código de bloque)
+         */
+        public long getViolations() {
+            return violations;
+        }
+
+        /**
+         * @return true si se recuperaron todos los bits sin errores ni violaciones
+         */
+        public boolean isLossless() {
+            return decodedBits == expectedBits && mismatches == 0 && violations == 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Ida y vuelta: %d/%d bits, %d errores (primero en %d), %d violaciones",
+                    decodedBits, expectedBits, mismatches, firstMismatch, violations);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+
+/**
+ * Aleatorizador (scrambler) autosincronizante de tipo LFSR
+ *
+ * Con polinomio x^b + x^a + 1, el aleatorizador transmite
+ *   s[n] = d[n] ^ s[n - a] ^ s[n - b]
+ * y el desaleatorizador recupera
+ *   d[n] = s[n] ^ s[n - a] ^ s[n - b]
+ * sin necesidad de sincronizar estados: tras b bits recibidos el
+ * registro del receptor coincide con el del transmisor.
+ *
+ * Se procesan 64 bits por paso. El desaleatorizador es directo (dos
+ * desplazamientos de la palabra). En el aleatorizador la realimentación
+ * se resuelve como un producto de polinomios sobre GF(2): dentro de una
+ * palabra s = u / (1 + p) con p = x^a + x^b, y
+ *   1 / (1 + p) = (1 + p)(1 + p^2)(1 + p^4)... (mod x^64)
+ * donde cada factor p^(2^k) = x^(a·2^k) + x^(b·2^k) es otro par de
+ * desplazamientos. Bastan log2(64 / a) factores (1 para x^58 + x^39 + 1,
+ * 4 para x^7 + x^4 + 1).
+ *
+ * Cada instancia guarda el registro de un sentido de la transmisión: usar
+ * una para aleatorizar y otra para desaleatorizar.
+ */
+public final class Scrambler {
+
+    /** Polinomios de uso común */
+    public enum Polynomial {
+        /** x^7 + x^4 + 1 (aleatorizador de 7 bits) */
+        X7_X4(7, 4),
+        /** x^58 + x^39 + 1 (IEEE 802.3, 64b/66b) */
+        X58_X39(58, 39);
+
+        private final int degree;
+        private final int tap;
+
+        Polynomial(int degree, int tap) {
+            this.degree = degree;
+            this.tap = tap;
+        }
+
+        /**
+         * Lee el polinomio del parámetro "scrambler"
+         *
+         * @param value Polynomial, su nombre ("X7_X4", "X58_X39"), "NONE" o null
+         * @return Polinomio, o null si no se aleatoriza
+         * @throws IllegalArgumentException si el valor no es un polinomio conocido
+         */
+        public static Polynomial fromParameter(Object value) {
+            if (value == null || value instanceof Polynomial) {
+                return (Polynomial) value;
+            }
+            String name = value.toString().trim().toUpperCase();
+            if (name.isEmpty() || name.equals("NONE")) {
+                return null;
+            }
+            return valueOf(name);
+        }
+    }
+
+    private final int degree;    // b
+    private final int tap;       // a
+    private final long seed;     // Contenido inicial del registro
+    private long history;        // Últimos 64 bits aleatorizados (el más reciente en el bit 63)
+
+    /**
+     * Aleatorizador con el registro inicial en ceros
+     *
+     * @param polynomial Polinomio del aleatorizador
+     */
+    public Scrambler(Polynomial polynomial) {
+        this(polynomial, 0L);
+    }
+
+    /**
+     * @param polynomial Polinomio del aleatorizador
+     * @param seed Contenido inicial del registro (con ceros, una entrada de
+     *             ceros sale sin cambios)
+     */
+    public Scrambler(Polynomial polynomial, long seed) {
+        this(polynomial.degree, polynomial.tap, seed);
+    }
+
+    /**
+     * Aleatorizador con polinomio x^degree + x^tap + 1
+     *
+     * @param degree Grado del polinomio (menor que 64)
+     * @param tap Exponente intermedio (0 < tap < degree)
+     * @param seed Contenido inicial del registro
+     * @throws IllegalArgumentException si los exponentes son inválidos
+     */
+    public Scrambler(int degree, int tap, long seed) {
+        if (tap < 1 || tap >= degree || degree >= 64) {
+            throw new IllegalArgumentException("Polinomio inválido: x^" + degree + " + x^" + tap + " + 1");
+        }
+        this.degree = degree;
+        this.tap = tap;
+        this.seed = seed;
+        this.history = seed;
+    }
+
+    /**
+     * Aleatoriza la secuencia continuando el estado del registro
+     *
+     * @param bits Bits de datos
+     * @return Bits aleatorizados (misma longitud)
+     */
+    public BitSequence scramble(BitSequence bits) {
+        long[] words = bits.toLongArray();
+        for (int w = 0; w < words.length; w++) {
+            words[w] = scrambleWord(words[w], Math.min(64, bits.length() - w * 64));
+        }
+        return BitSequence.of(words, bits.length());
+    }
+
+    /**
+     * Aleatoriza una palabra completa de 64 bits (bit 0 = primer bit)
+     *
+     * @param word Bits de datos
+     * @return Bits aleatorizados
+     */
+    public long scrambleWord(long word) {
+        return scrambleWord(word, 64);
+    }
+
+    /**
+     * Desaleatoriza la secuencia continuando el estado del registro
+     *
+     * @param bits Bits aleatorizados
+     * @return Bits de datos (misma longitud)
+     */
+    public BitSequence descramble(BitSequence bits) {
+        long[] words = bits.toLongArray();
+        for (int w = 0; w < words.length; w++) {
+            words[w] = descrambleWord(words[w], Math.min(64, bits.length() - w * 64));
+        }
+        return BitSequence.of(words, bits.length());
+    }
+
+    /**
+     * Desaleatoriza una palabra completa de 64 bits (bit 0 = primer bit)
+     *
+     * @param word Bits aleatorizados
+     * @return Bits de datos
+     */
+    public long descrambleWord(long word) {
+        return descrambleWord(word, 64);
+    }
+
+    /**
+     * Aleatoriza un solo bit
+     *
+     * @param bit Bit de datos (0 o 1)
+     * @return Bit aleatorizado
+     */
+    public int scrambleBit(int bit) {
+        int s = bit ^ delayed(tap) ^ delayed(degree);
+        push(s, 1);
+        return s;
+    }
+
+    /**
+     * Desaleatoriza un solo bit (para decodificadores bit a bit)
+     *
+     * @param bit Bit aleatorizado (0 o 1)
+     * @return Bit de datos
+     */
+    public int descrambleBit(int bit) {
+        int d = bit ^ delayed(tap) ^ delayed(degree);
+        push(bit, 1);
+        return d;
+    }
+
+    /**
+     * Reinicia el registro a su contenido inicial
+     */
+    public void reset() {
+        history = seed;
+    }
+
+    /**
+     * Aleatoriza los count bits bajos de word (los demás deben valer 0)
+     */
+    private long scrambleWord(long word, int count) {
+        long prev = history;
+        long u = word ^ (prev >>> (64 - tap)) ^ (prev >>> (64 - degree));
+        // s = u · (1 + p)(1 + p^2)(1 + p^4)... con p = x^tap + x^degree
+        for (int a = tap, b = degree; a < 64; a <<= 1, b <<= 1) {
+            u ^= (u << a) ^ shiftLeft(u, b);
+        }
+        long s = mask(u, count);
+        push(s, count);
+        return s;
+    }
+
+    /**
+     * Desaleatoriza los count bits bajos de s (los demás deben valer 0)
+     */
+    private long descrambleWord(long s, int count) {
+        long prev = history;
+        long delayedA = (s << tap) | (prev >>> (64 - tap));
+        long delayedB = (s << degree) | (prev >>> (64 - degree));
+        push(s, count);
+        return mask(s ^ delayedA ^ delayedB, count);
+    }
+
+    /**
+     * @return Bit aleatorizado de hace delay bits
+     */
+    private int delayed(int delay) {
+        return (int) (history >>> (64 - delay)) & 1;
+    }
+
+    /**
+     * Agrega los count bits menos significativos de s al registro
+     */
+    private void push(long s, int count) {
+        history = count == 64 ? s : (history >>> count) | (s << (64 - count));
+    }
+
+    private static long shiftLeft(long value, int distance) {
+        return distance < 64 ? value << distance : 0L;
+    }
+
+    private static long mask(long value, int count) {
+        return count == 64 ? value : value & ((1L << count) - 1);
+    }
+}
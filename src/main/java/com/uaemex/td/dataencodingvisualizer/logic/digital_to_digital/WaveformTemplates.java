@@ -0,0 +1,101 @@
+package com.uaemex.td.dataencodingvisualizer.logic.digital_to_digital;
+
+import com.uaemex.td.dataencodingvisualizer.model.BitSequence;
+import com.uaemex.td.dataencodingvisualizer.model.SampleBuffer;
+
+/**
+ * Plantillas de forma de onda por byte para codificación por tabla
+ *
+ * Para cada estado del transductor y cada uno de los 256 valores de byte
+ * se precalculan los niveles muestreados de los 8 bits y el estado
+ * siguiente. Codificar se reduce a buscar la plantilla de cada byte,
+ * copiarla en bloque al búfer y pasar al estado de la tabla.
+ *
+ * Aplica a técnicas declaradas como LineCodeTransducer sin regla de
+ * sustitución (las sustituciones cruzan los límites de byte). Los bytes se
+ * toman en orden de transmisión: el bit 0 del valor es el primer bit transmitido.
+ */
+final class WaveformTemplates {
+
+    private static final int BYTE_VALUES = 256;
+
+    private final LineCodingGenerator generator;
+    private final int samplesPerBit;
+    private final double[][] levels;         // [estado * 256 + byte] -> 8 * samplesPerBit niveles
+    private final int[] nextState;           // [estado * 256 + byte] -> estado siguiente
+    private final double[] fractions;        // i / samplesPerBit
+
+    private WaveformTemplates(LineCodingGenerator generator, LineCodeTransducer transducer) {
+        this.generator = generator;
+        this.samplesPerBit = generator.getSamplesPerBit();
+        int states = transducer.getStateCount();
+        this.levels = new double[states * BYTE_VALUES][];
+        this.nextState = new int[states * BYTE_VALUES];
+
+        this.fractions = new double[samplesPerBit];
+        for (int i = 0; i < samplesPerBit; i++) {
+            fractions[i] = i / (double) samplesPerBit;
+        }
+
+        for (int s = 0; s < states; s++) {
+            for (int value = 0; value < BYTE_VALUES; value++) {
+                BitSequence octet = BitSequence.of(new long[]{value}, 8);
+                double[] row = new double[8 * samplesPerBit];
+                int[] position = {0};
+                LevelSink sink = generator.renderer((x, y) -> row[position[0]++] = y, 0);
+
+                int index = s * BYTE_VALUES + value;
+                nextState[index] = transducer.encode(octet, 0, 8, s, sink);
+                levels[index] = row;
+            }
+        }
+    }
+
+    /**
+     * Construye las plantillas para los parámetros actuales del generador
+     *
+     * @param generator Codificador de línea
+     * @return Plantillas, o null si la técnica no es un transductor sin sustitución
+     */
+    static WaveformTemplates build(LineCodingGenerator generator) {
+        LineCodeTransducer transducer = generator.getTransducer();
+        if (transducer == null || transducer.getSubstitutionLength() > 0) {
+            return null;
+        }
+        return new WaveformTemplates(generator, transducer);
+    }
+
+    /**
+     * @return Muestras por bit con las que se construyeron las plantillas
+     */
+    int getSamplesPerBit() {
+        return samplesPerBit;
+    }
+
+    /**
+     * Codifica la secuencia completa en el búfer
+     * Los bytes completos se copian desde las plantillas; los bits finales
+     * (menos de 8) se codifican con el codificador normal.
+     *
+     * @param bits Secuencia a codificar
+     * @param buffer Búfer destino
+     */
+    void render(BitSequence bits, SampleBuffer buffer) {
+        int fullBytes = bits.length() / 8;
+        LineCodingState state = generator.createState();
+        int current = state.getTransducerState();
+
+        for (int k = 0; k < fullBytes; k++) {
+            int from = k * 8;
+            int index = current * BYTE_VALUES + (int) bits.bits(from, 8);
+            buffer.appendBits(levels[index], 0, 8, from, fractions);
+            current = nextState[index];
+        }
+
+        int tail = fullBytes * 8;
+        if (tail < bits.length()) {
+            state.setTransducerState(current);
+            generator.encode(bits, tail, bits.length(), state, generator.renderer(buffer, tail));
+        }
+    }
+}
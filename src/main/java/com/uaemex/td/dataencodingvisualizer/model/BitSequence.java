@@ -0,0 +1,533 @@
+package com.uaemex.td.dataencodingvisualizer.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Secuencia de bits empaquetada en palabras de 64 bits
+ *
+ * Representa la entrada de las técnicas digitales usando un bit de memoria
+ * por bit de datos (en lugar de un char de 2 bytes por bit).
+ *
+ * Convención de orden:
+ * - El bit i es el i-ésimo bit transmitido
+ * - Se almacena en words[i / 64], posición (i % 64), empezando por el LSB
+ *   (misma convención que java.util.BitSet)
+ *
+ * Las instancias son inmutables: los métodos de fábrica copian los datos
+ * de origen y los bits por encima de length() siempre valen 0.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+public final class BitSequence {
+
+    private static final BitSequence EMPTY = new BitSequence(new long[0], 0);
+
+    private final long[] words;  // Bits empaquetados (LSB primero)
+    private final int length;    // Número de bits válidos
+
+    private BitSequence(long[] words, int length) {
+        this.words = words;
+        this.length = length;
+    }
+
+    // ==================== MÉTODOS DE FÁBRICA ====================
+
+    /**
+     * Crea una secuencia a partir de una cadena de '0' y '1'
+     *
+     * @param binary Cadena binaria (ej: "10110010")
+     * @return Secuencia empaquetada
+     * @throws IllegalArgumentException si contiene caracteres distintos de '0' y '1'
+     */
+    public static BitSequence fromString(CharSequence binary) {
+        if (binary == null) {
+            throw new IllegalArgumentException("La cadena binaria no puede ser null");
+        }
+        int length = binary.length();
+        long[] words = new long[wordCount(length)];
+        for (int i = 0; i < length; i++) {
+            char c = binary.charAt(i);
+            if (c == '1') {
+                words[i >>> 6] |= 1L << i;
+            } else if (c != '0') {
+                throw new IllegalArgumentException("Carácter no binario en la posición " + i + ": '" + c + "'");
+            }
+        }
+        return new BitSequence(words, length);
+    }
+
+    /**
+     * Crea una secuencia a partir de palabras ya empaquetadas
+     *
+     * @param words Palabras de 64 bits (bit i en words[i / 64], posición i % 64)
+     * @param length Número de bits válidos
+     * @return Secuencia con una copia de los datos
+     * @throws IllegalArgumentException si length es negativo o excede la capacidad del arreglo
+     */
+    public static BitSequence of(long[] words, int length) {
+        if (length < 0 || wordCount(length) > words.length) {
+            throw new IllegalArgumentException("Longitud inválida: " + length + " bits para " + words.length + " palabras");
+        }
+        long[] copy = Arrays.copyOf(words, wordCount(length));
+        clearUnusedBits(copy, length);
+        return new BitSequence(copy, length);
+    }
+
+    /**
+     * Crea una secuencia a partir de los bytes restantes de un ByteBuffer
+     * Cada byte se transmite empezando por su bit más significativo (orden de red)
+     * No modifica la posición del buffer.
+     *
+     * @param buffer Buffer de origen
+     * @return Secuencia con 8 * buffer.remaining() bits
+     */
+    public static BitSequence fromByteBuffer(ByteBuffer buffer) {
+        int byteCount = buffer.remaining();
+        if (byteCount > Integer.MAX_VALUE / 8) {
+            throw new IllegalArgumentException("Buffer demasiado grande: " + byteCount + " bytes");
+        }
+        int length = byteCount * 8;
+        long[] words = new long[wordCount(length)];
+        int start = buffer.position();
+        for (int b = 0; b < byteCount; b++) {
+            // Invertir el byte para que el MSB quede en la posición menos significativa
+            long reversed = (Integer.reverse(buffer.get(start + b) & 0xFF) >>> 24) & 0xFFL;
+            int bit = b * 8;
+            words[bit >>> 6] |= reversed << (bit & 63);
+        }
+        return new BitSequence(words, length);
+    }
+
+    /**
+     * Crea una secuencia a partir de un BitSet
+     *
+     * @param bits Conjunto de bits (bit i = i-ésimo bit transmitido)
+     * @param length Número de bits (BitSet no guarda los ceros finales)
+     * @return Secuencia con una copia de los datos
+     */
+    public static BitSequence fromBitSet(BitSet bits, int length) {
+        return of(Arrays.copyOf(bits.toLongArray(), wordCount(length)), length);
+    }
+
+    /**
+     * @return Secuencia vacía
+     */
+    public static BitSequence empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Crea una secuencia de ceros
+     *
+     * @param length Número de bits
+     * @return Secuencia con length bits en '0'
+     */
+    public static BitSequence zeros(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Longitud inválida: " + length);
+        }
+        return length == 0 ? EMPTY : new BitSequence(new long[wordCount(length)], length);
+    }
+
+    /**
+     * Verifica que una cadena contenga solo '0' y '1' sin usar expresiones regulares
+     *
+     * @param input Cadena a verificar
+     * @return true si no es null, no está vacía y es binaria
+     */
+    public static boolean isBinary(CharSequence input) {
+        if (input == null || input.length() == 0) {
+            return false;
+        }
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c != '0' && c != '1') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ==================== ACCESO ====================
+
+    /**
+     * @return Número de bits de la secuencia
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @return true si la secuencia no contiene bits
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * Obtiene el bit en la posición indicada
+     *
+     * @param index Posición (0 = primer bit transmitido)
+     * @return true si el bit es '1'
+     */
+    public boolean get(int index) {
+        checkIndex(index);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Obtiene el bit en la posición indicada como entero
+     *
+     * @param index Posición (0 = primer bit transmitido)
+     * @return 0 o 1
+     */
+    public int bit(int index) {
+        checkIndex(index);
+        return (int) (words[index >>> 6] >>> index) & 1;
+    }
+
+    /**
+     * Extrae hasta 64 bits consecutivos empezando en from
+     * El bit from queda en la posición menos significativa del resultado.
+     * Las posiciones más allá del final de la secuencia se leen como 0.
+     *
+     * @param from Posición inicial
+     * @param count Número de bits (0 a 64)
+     * @return Bits extraídos
+     */
+    public long bits(int from, int count) {
+        if (count == 0 || from >= length) {
+            return 0L;
+        }
+        int wordIndex = from >>> 6;
+        int offset = from & 63;
+        long value = words[wordIndex] >>> offset;
+        if (offset != 0 && wordIndex + 1 < words.length) {
+            value |= words[wordIndex + 1] << (64 - offset);
+        }
+        return count == 64 ? value : value & ((1L << count) - 1);
+    }
+
+    /**
+     * Obtiene una palabra interna completa
+     *
+     * @param wordIndex Índice de la palabra (bits 64*wordIndex a 64*wordIndex+63)
+     * @return Palabra empaquetada (los bits fuera de rango valen 0)
+     */
+    public long word(int wordIndex) {
+        return words[wordIndex];
+    }
+
+    /**
+     * @return Número de palabras de 64 bits usadas
+     */
+    public int wordCount() {
+        return words.length;
+    }
+
+    /**
+     * @return Copia de las palabras empaquetadas
+     */
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    /**
+     * @return Número de bits en '1'
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Cuenta los bits en '1' del rango [from, to) palabra por palabra
+     *
+     * @param from Posición inicial (inclusiva)
+     * @param to Posición final (exclusiva)
+     * @return Número de bits en '1' del rango
+     */
+    public int cardinality(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Rango inválido [" + from + ", " + to + ") para " + length + " bits");
+        }
+        if (from == to) {
+            return 0;
+        }
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - ((to - 1) & 63));
+        if (firstWord == lastWord) {
+            return Long.bitCount(words[firstWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(words[firstWord] & firstMask);
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            count += Long.bitCount(words[w]);
+        }
+        return count + Long.bitCount(words[lastWord] & lastMask);
+    }
+
+    /**
+     * Extrae una subsecuencia
+     *
+     * @param from Posición inicial (inclusiva)
+     * @param to Posición final (exclusiva)
+     * @return Nueva secuencia con los bits [from, to)
+     */
+    public BitSequence subSequence(int from, int to) {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException("Rango inválido [" + from + ", " + to + ") para " + length + " bits");
+        }
+        int subLength = to - from;
+        long[] sub = new long[wordCount(subLength)];
+        for (int w = 0; w < sub.length; w++) {
+            sub[w] = bits(from + w * 64, Math.min(64, subLength - w * 64));
+        }
+        return new BitSequence(sub, subLength);
+    }
+
+    /**
+     * Concatena otra secuencia al final de esta
+     *
+     * @param other Secuencia a agregar
+     * @return Nueva secuencia con los bits de esta seguidos de los de other
+     */
+    public BitSequence concat(BitSequence other) {
+        if (other.length == 0) return this;
+        if (length == 0) return other;
+        if (length > Integer.MAX_VALUE - other.length) {
+            throw new IllegalArgumentException("La secuencia resultante es demasiado larga");
+        }
+        int total = length + other.length;
+        long[] joined = Arrays.copyOf(words, wordCount(total));
+        int offset = length & 63;
+        int base = length >>> 6;
+        for (int w = 0; w < other.words.length; w++) {
+            long word = other.words[w];
+            if (offset == 0) {
+                joined[base + w] = word;
+            } else {
+                joined[base + w] |= word << offset;
+                if (base + w + 1 < joined.length) {
+                    joined[base + w + 1] = word >>> (64 - offset);
+                }
+            }
+        }
+        return new BitSequence(joined, total);
+    }
+
+    /**
+     * Cuenta los ceros consecutivos al final de la secuencia
+     *
+     * @return Longitud de la racha final de ceros (length() si no hay unos)
+     */
+    public int trailingZeros() {
+        return length - 1 - previousSetBit(length - 1);
+    }
+
+    /**
+     * Busca el primer bit en '1' en la posición fromIndex o después
+     * (misma semántica que BitSet.nextSetBit)
+     *
+     * @param fromIndex Posición inicial de la búsqueda
+     * @return Posición del bit encontrado, o -1 si no hay ninguno
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            throw new IndexOutOfBoundsException("Índice negativo: " + fromIndex);
+        }
+        if (fromIndex >= length) {
+            return -1;
+        }
+        int w = fromIndex >>> 6;
+        long word = words[w] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                return w * 64 + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == words.length) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
+    /**
+     * Busca el último bit en '1' en la posición fromIndex o antes
+     * (misma semántica que BitSet.previousSetBit)
+     *
+     * @param fromIndex Posición inicial de la búsqueda hacia atrás
+     * @return Posición del bit encontrado, o -1 si no hay ninguno
+     */
+    public int previousSetBit(int fromIndex) {
+        if (fromIndex < 0 || length == 0) {
+            return -1;
+        }
+        int index = Math.min(fromIndex, length - 1);
+        int w = index >>> 6;
+        long word = words[w] & (-1L >>> (63 - (index & 63)));
+        while (true) {
+            if (word != 0) {
+                return w * 64 + 63 - Long.numberOfLeadingZeros(word);
+            }
+            if (w-- == 0) {
+                return -1;
+            }
+            word = words[w];
+        }
+    }
+
+    /**
+     * @return Copia en un BitSet
+     */
+    public BitSet toBitSet() {
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return Representación como cadena de '0' y '1'
+     */
+    @Override
+    public String toString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (words[i >>> 6] & (1L << i)) != 0 ? '1' : '0';
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+
+        BitSequence that = (BitSequence) obj;
+        return length == that.length && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    // ==================== CONSTRUCCIÓN INCREMENTAL ====================
+
+    /**
+     * Crea un constructor para armar una secuencia bit a bit o por grupos
+     *
+     * @param expectedLength Número de bits esperado (solo reserva memoria)
+     * @return Constructor vacío
+     */
+    public static Builder builder(int expectedLength) {
+        return new Builder(expectedLength);
+    }
+
+    /**
+     * Constructor incremental de secuencias (por ejemplo, para códigos de
+     * bloque que producen grupos de n bits)
+     */
+    public static final class Builder {
+        private long[] words;
+        private int length;
+
+        private Builder(int expectedLength) {
+            if (expectedLength < 0) {
+                throw new IllegalArgumentException("Longitud inválida: " + expectedLength);
+            }
+            this.words = new long[Math.max(1, wordCount(expectedLength))];
+        }
+
+        /**
+         * Agrega los count bits menos significativos de value
+         * (el bit 0 de value se transmite primero)
+         *
+         * @param value Bits a agregar
+         * @param count Número de bits (0 a 64)
+         * @return Este constructor
+         */
+        public Builder append(long value, int count) {
+            if (count < 0 || count > 64) {
+                throw new IllegalArgumentException("Se pueden agregar de 0 a 64 bits: " + count);
+            }
+            if (count == 0) {
+                return this;
+            }
+            if (count < 64) {
+                value &= (1L << count) - 1;
+            }
+            ensureCapacity(length + count);
+            int offset = length & 63;
+            int index = length >>> 6;
+            words[index] |= value << offset;
+            if (offset != 0 && offset + count > 64) {
+                words[index + 1] = value >>> (64 - offset);
+            }
+            length += count;
+            return this;
+        }
+
+        /**
+         * Agrega una secuencia completa
+         *
+         * @return Este constructor
+         */
+        public Builder append(BitSequence bits) {
+            for (int i = 0; i < bits.length; i += 64) {
+                append(bits.bits(i, 64), Math.min(64, bits.length - i));
+            }
+            return this;
+        }
+
+        /**
+         * @return Número de bits agregados
+         */
+        public int length() {
+            return length;
+        }
+
+        /**
+         * @return Secuencia con los bits agregados
+         */
+        public BitSequence build() {
+            return length == 0 ? EMPTY : new BitSequence(Arrays.copyOf(words, wordCount(length)), length);
+        }
+
+        private void ensureCapacity(int bitCount) {
+            if (bitCount < 0) {
+                throw new IllegalArgumentException("La secuencia resultante es demasiado larga");
+            }
+            int required = wordCount(bitCount);
+            if (required > words.length) {
+                words = Arrays.copyOf(words, Math.max(required, words.length + (words.length >> 1) + 1));
+            }
+        }
+    }
+
+    // ==================== UTILIDADES INTERNAS ====================
+
+    /**
+     * Calcula el número de palabras necesarias para almacenar n bits
+     */
+    static int wordCount(int bitCount) {
+        return (bitCount + 63) >>> 6;
+    }
+
+    private static void clearUnusedBits(long[] words, int length) {
+        if ((length & 63) != 0) {
+            words[words.length - 1] &= (1L << length) - 1;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fuera de rango para " + length + " bits");
+        }
+    }
+}
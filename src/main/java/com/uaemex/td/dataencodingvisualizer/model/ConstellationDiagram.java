@@ -0,0 +1,221 @@
+package com.uaemex.td.dataencodingvisualizer.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Diagrama de constelación con agrupación por densidad
+ *
+ * Recibe un punto (I, Q) por símbolo y lo cuenta en una rejilla cuadrada
+ * fija que cubre [-limit, limit] en ambos ejes. Los primeros pointLimit
+ * puntos también se guardan tal cual; a partir de ahí solo queda la
+ * rejilla, así que la memoria y el costo de graficar no dependen del número
+ * de símbolos: un millón de símbolos con ruido se dibuja igual que cien.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+public class ConstellationDiagram {
+
+    /** Puntos que se conservan sin agrupar por defecto */
+    public static final int DEFAULT_POINT_LIMIT = 4096;
+
+    private final int size;
+    private final double limit;
+    private final double cellScale;  // Celdas por unidad de amplitud
+    private final int pointLimit;
+    private final long[] counts;     // [fila * size + columna], fila 0 = Q máxima
+
+    private double[] pointsI;        // Puntos sin agrupar (null al superar pointLimit)
+    private double[] pointsQ;
+    private long points;             // Puntos recibidos
+    private long clipped;            // Puntos fuera de [-limit, limit]
+    private long maxCount;           // Cuenta de la celda más visitada
+
+    /**
+     * Constructor con DEFAULT_POINT_LIMIT puntos sin agrupar
+     *
+     * @param size Celdas por eje
+     * @param limit Amplitud máxima representada en cada eje
+     */
+    public ConstellationDiagram(int size, double limit) {
+        this(size, limit, DEFAULT_POINT_LIMIT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param size Celdas por eje (mínimo 2)
+     * @param limit Amplitud máxima representada en cada eje (debe ser > 0)
+     * @param pointLimit Puntos que se conservan sin agrupar (0 para solo agrupar)
+     * @throws IllegalArgumentException si la rejilla, el rango o el límite no son válidos
+     */
+    public ConstellationDiagram(int size, double limit, int pointLimit) {
+        if (size < 2) {
+            throw new IllegalArgumentException("La rejilla debe tener al menos 2x2 celdas");
+        }
+        if (!(limit > 0)) {
+            throw new IllegalArgumentException("El rango de amplitud debe ser positivo");
+        }
+        if (pointLimit < 0) {
+            throw new IllegalArgumentException("El límite de puntos no puede ser negativo");
+        }
+        this.size = size;
+        this.limit = limit;
+        this.cellScale = size / (2 * limit);
+        this.pointLimit = pointLimit;
+        this.counts = new long[size * size];
+        this.pointsI = new double[Math.min(pointLimit, 1024)];
+        this.pointsQ = new double[pointsI.length];
+    }
+
+    /**
+     * Recibe el punto de un símbolo
+     *
+     * @param inPhase Componente en fase (I)
+     * @param quadrature Componente en cuadratura (Q)
+     */
+    public void accept(double inPhase, double quadrature) {
+        if (pointsI != null) {
+            if (points < pointLimit) {
+                int index = (int) points;
+                if (index == pointsI.length) {
+                    int capacity = Math.min(pointLimit, 2 * index);
+                    pointsI = Arrays.copyOf(pointsI, capacity);
+                    pointsQ = Arrays.copyOf(pointsQ, capacity);
+                }
+                pointsI[index] = inPhase;
+                pointsQ[index] = quadrature;
+            } else {
+                // Solo queda la rejilla
+                pointsI = null;
+                pointsQ = null;
+            }
+        }
+
+        double column = (inPhase + limit) * cellScale;
+        double row = (limit - quadrature) * cellScale;
+        if (!(column >= 0 && column < size && row >= 0 && row < size)) {
+            clipped++;
+        }
+        int c = (int) Math.max(0, Math.min(size - 1, column));
+        int r = (int) Math.max(0, Math.min(size - 1, row));
+        long count = ++counts[r * size + c];
+        if (count > maxCount) {
+            maxCount = count;
+        }
+        points++;
+    }
+
+    /**
+     * Puntos para graficar: los originales si no se superó pointLimit, o el
+     * centro de cada celda ocupada en caso contrario (a lo sumo size² puntos)
+     *
+     * @return Puntos con x = I, y = Q
+     */
+    public List<SignalData> toSignalData() {
+        List<SignalData> data = new ArrayList<>();
+        if (isBinnedOnly()) {
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (counts[r * size + c] > 0) {
+                        data.add(new SignalData(getCenter(c), -getCenter(r)));
+                    }
+                }
+            }
+        } else {
+            for (int i = 0; i < points; i++) {
+                data.add(new SignalData(pointsI[i], pointsQ[i]));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Convierte las cuentas en un mapa de calor ARGB (escala logarítmica)
+     * El arreglo puede escribirse directamente en una imagen (fila 0 arriba,
+     * Q = limit; columna 0 a la izquierda, I = -limit).
+     *
+     * @return Píxeles en formato 0xAARRGGBB, [fila * getSize() + columna]
+     */
+    public int[] toArgb() {
+        return DensityColors.toArgb(counts, maxCount);
+    }
+
+    /**
+     * Suma los puntos de otro diagrama con la misma rejilla
+     * El resultado conserva solo la rejilla.
+     *
+     * @param other Diagrama a sumar
+     * @throws IllegalArgumentException si la rejilla o el rango difieren
+     */
+    public void merge(ConstellationDiagram other) {
+        if (other.size != size || other.limit != limit) {
+            throw new IllegalArgumentException("Los diagramas de constelación tienen rejillas distintas");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            long count = counts[i] += other.counts[i];
+            if (count > maxCount) {
+                maxCount = count;
+            }
+        }
+        points += other.points;
+        clipped += other.clipped;
+        pointsI = null;
+        pointsQ = null;
+    }
+
+    /**
+     * @return true si ya no se conservan los puntos originales
+     */
+    public boolean isBinnedOnly() {
+        return pointsI == null;
+    }
+
+    /**
+     * @param column Columna (0 = I mínima)
+     * @param row Fila (0 = Q máxima)
+     * @return Puntos que cayeron en la celda
+     */
+    public long getCount(int column, int row) {
+        return counts[row * size + column];
+    }
+
+    /**
+     * @param cell Índice de columna (o de fila, con el signo invertido)
+     * @return Amplitud del centro de la celda en el eje I
+     */
+    public double getCenter(int cell) {
+        return -limit + (cell + 0.5) / cellScale;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return Cuenta de la celda más visitada
+     */
+    public long getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * @return Puntos recibidos
+     */
+    public long getPoints() {
+        return points;
+    }
+
+    /**
+     * @return Puntos fuera del rango (se cuentan en la celda del borde)
+     */
+    public long getClippedPoints() {
+        return clipped;
+    }
+}
@@ -0,0 +1,56 @@
+package com.uaemex.td.dataencodingvisualizer.model;
+
+/**
+ * Mapa de color compartido por las vistas de densidad (ojo, constelación)
+ *
+ * La intensidad es logarítmica (log(1 + cuenta) / log(1 + máximo)) para que
+ * las celdas poco visitadas sigan siendo visibles; las celdas vacías quedan
+ * en negro y la escala pasa por azul, cian y amarillo hasta blanco.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+final class DensityColors {
+
+    private static final double[] STOPS = {0.0, 0.25, 0.5, 0.75, 1.0};
+    private static final int[][] COLORS = {
+            {0, 0, 0}, {0, 0, 160}, {0, 200, 220}, {255, 220, 0}, {255, 255, 255}
+    };
+
+    private DensityColors() {
+    }
+
+    /**
+     * Convierte una rejilla de cuentas en píxeles ARGB
+     *
+     * @param counts Cuentas por celda
+     * @param maxCount Cuenta máxima de la rejilla
+     * @return Píxeles en formato 0xAARRGGBB, en el mismo orden que counts
+     */
+    static int[] toArgb(long[] counts, long maxCount) {
+        int[] pixels = new int[counts.length];
+        double scale = maxCount > 0 ? 1.0 / Math.log1p(maxCount) : 0.0;
+        for (int i = 0; i < counts.length; i++) {
+            pixels[i] = color(Math.log1p(counts[i]) * scale);
+        }
+        return pixels;
+    }
+
+    /**
+     * Color del mapa para una intensidad en [0, 1]
+     */
+    private static int color(double value) {
+        int segment = 0;
+        while (segment < STOPS.length - 2 && value > STOPS[segment + 1]) {
+            segment++;
+        }
+        double t = (value - STOPS[segment]) / (STOPS[segment + 1] - STOPS[segment]);
+        t = Math.max(0.0, Math.min(1.0, t));
+        int[] from = COLORS[segment];
+        int[] to = COLORS[segment + 1];
+        int r = (int) Math.round(from[0] + (to[0] - from[0]) * t);
+        int g = (int) Math.round(from[1] + (to[1] - from[1]) * t);
+        int b = (int) Math.round(from[2] + (to[2] - from[2]) * t);
+        return 0xFF000000 | r << 16 | g << 8 | b;
+    }
+}
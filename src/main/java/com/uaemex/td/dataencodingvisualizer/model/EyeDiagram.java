@@ -0,0 +1,266 @@
+package com.uaemex.td.dataencodingvisualizer.model;
+
+import java.util.Arrays;
+
+/**
+ * Acumulador de diagrama de ojo para secuencias muy largas
+ *
+ * Pliega cada muestra módulo el periodo de símbolo en una ventana de
+ * SPAN_SYMBOLS símbolos y cuenta cuántas veces pasa la traza por cada celda
+ * de una rejilla (tiempo dentro de la ventana × amplitud). La memoria depende
+ * solo del tamaño de la rejilla, así que puede recibir la señal en flujo
+ * (ver generateEye en los generadores) sin almacenar la forma de onda.
+ *
+ * Entre dos muestras consecutivas de la misma ventana se traza el segmento
+ * que las une, de modo que las transiciones abruptas (codificación de línea)
+ * se ven como líneas verticales y no como puntos aislados.
+ *
+ * La ventana empieza medio símbolo antes de un límite de símbolo para que
+ * el ojo quede centrado.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+public class EyeDiagram implements SampleSink {
+
+    /** Símbolos que abarca la ventana horizontal */
+    public static final int SPAN_SYMBOLS = 2;
+
+    private final double symbolPeriod;
+    private final double window;
+    private final double start;
+    private final int columns;
+    private final int rows;
+    private final double minY;
+    private final double maxY;
+    private final double columnScale;  // Columnas por unidad de x
+    private final double rowScale;     // Filas por unidad de amplitud
+    private final long[] counts;  // [fila * columns + columna], fila 0 = maxY
+
+    private long samples;         // Muestras recibidas
+    private long clipped;         // Muestras fuera de [minY, maxY]
+    private long maxCount;        // Cuenta de la celda más visitada
+
+    // Muestra anterior (para trazar el segmento que la une con la siguiente)
+    private double lastX = Double.NaN;
+    private int lastColumn;
+    private int lastRow;
+    private double windowStart = Double.NaN;  // Inicio de la ventana de la muestra anterior
+
+    /**
+     * Constructor
+     *
+     * @param symbolPeriod Duración de un símbolo en las unidades de x
+     * @param columns Celdas horizontales (resolución temporal de la ventana)
+     * @param rows Celdas verticales (resolución de amplitud)
+     * @param minY Amplitud de la fila inferior
+     * @param maxY Amplitud de la fila superior
+     * @throws IllegalArgumentException si el periodo, la rejilla o el rango no son válidos
+     */
+    public EyeDiagram(double symbolPeriod, int columns, int rows, double minY, double maxY) {
+        if (!(symbolPeriod > 0)) {
+            throw new IllegalArgumentException("El periodo de símbolo debe ser positivo");
+        }
+        if (columns < 2 || rows < 2) {
+            throw new IllegalArgumentException("La rejilla debe tener al menos 2x2 celdas");
+        }
+        if (!(maxY > minY)) {
+            throw new IllegalArgumentException("El rango de amplitud está vacío");
+        }
+        this.symbolPeriod = symbolPeriod;
+        this.window = symbolPeriod * SPAN_SYMBOLS;
+        this.start = -symbolPeriod / 2;
+        this.columns = columns;
+        this.rows = rows;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.columnScale = columns / window;
+        this.rowScale = rows / (maxY - minY);
+        this.counts = new long[columns * rows];
+    }
+
+    @Override
+    public void accept(double x, double y) {
+        // Las muestras llegan en orden: la ventana actual solo se recalcula al salir de ella
+        double cells = (x - windowStart) * columnScale;
+        if (!(cells >= 0 && cells < columns)) {
+            windowStart = start + Math.floor((x - start) / window) * window;
+            cells = (x - windowStart) * columnScale;
+        }
+        int column = Math.min(columns - 1, (int) cells);
+
+        double position = (maxY - y) * rowScale;
+        if (!(position >= 0 && position < rows)) {
+            clipped++;
+            position = Math.max(0, Math.min(rows - 1, position));
+        }
+        int row = (int) position;
+
+        // Solo se unen muestras de la misma pasada por la ventana
+        if (x - lastX < window / 2 && column >= lastColumn) {
+            if (row != lastRow || column != lastColumn) {
+                trace(column, row);
+            }
+        } else {
+            hit(column, row);
+        }
+        lastX = x;
+        lastColumn = column;
+        lastRow = row;
+        samples++;
+    }
+
+    /**
+     * Traza el segmento desde la muestra anterior (sin volver a contar su
+     * celda) hasta (column, row): en cada columna cubre las filas entre la
+     * altura con la que entra y la altura con la que sale
+     */
+    private void trace(int column, int row) {
+        int span = column - lastColumn;
+        int from = lastRow;
+        if (span == 0) {
+            fill(column, from, row);
+            return;
+        }
+        for (int c = lastColumn + 1; c <= column; c++) {
+            int to = lastRow + (int) Math.round((row - lastRow) * (double) (c - lastColumn) / span);
+            if (to == from) {
+                hit(c, to);
+            } else {
+                hit(c, from);
+                fill(c, from, to);
+            }
+            from = to;
+        }
+    }
+
+    /**
+     * Cuenta las filas de (from, to] en una columna
+     */
+    private void fill(int column, int from, int to) {
+        int step = to > from ? 1 : -1;
+        for (int r = from; r != to; ) {
+            r += step;
+            hit(column, r);
+        }
+    }
+
+    private void hit(int column, int row) {
+        long count = ++counts[row * columns + column];
+        if (count > maxCount) {
+            maxCount = count;
+        }
+    }
+
+    /**
+     * Suma las cuentas de otro diagrama con la misma geometría
+     * Permite acumular bloques generados por separado (p. ej. en paralelo).
+     *
+     * @param other Diagrama a sumar
+     * @throws IllegalArgumentException si la rejilla, el rango o el periodo difieren
+     */
+    public void merge(EyeDiagram other) {
+        if (other.columns != columns || other.rows != rows || other.minY != minY
+                || other.maxY != maxY || other.symbolPeriod != symbolPeriod) {
+            throw new IllegalArgumentException("Los diagramas de ojo tienen geometrías distintas");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            long count = counts[i] += other.counts[i];
+            if (count > maxCount) {
+                maxCount = count;
+            }
+        }
+        samples += other.samples;
+        clipped += other.clipped;
+    }
+
+    /**
+     * Vacía el diagrama conservando la geometría
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        samples = 0;
+        clipped = 0;
+        maxCount = 0;
+        lastX = Double.NaN;
+        windowStart = Double.NaN;
+    }
+
+    /**
+     * Convierte las cuentas en un mapa de calor ARGB (escala logarítmica)
+     * El arreglo puede escribirse directamente en una imagen (fila 0 arriba,
+     * amplitud maxY).
+     *
+     * @return Píxeles en formato 0xAARRGGBB, [fila * getColumns() + columna]
+     */
+    public int[] toArgb() {
+        return DensityColors.toArgb(counts, maxCount);
+    }
+
+    /**
+     * @param column Columna (0 = inicio de la ventana)
+     * @param row Fila (0 = amplitud maxY)
+     * @return Veces que la traza pasó por la celda
+     */
+    public long getCount(int column, int row) {
+        return counts[row * columns + column];
+    }
+
+    /**
+     * @param column Columna
+     * @return Tiempo del centro de la columna relativo al límite de símbolo
+     *         (de -periodo/2 a 1.5·periodo)
+     */
+    public double getTime(int column) {
+        return start + (column + 0.5) * window / columns;
+    }
+
+    /**
+     * @param row Fila
+     * @return Amplitud del centro de la fila
+     */
+    public double getAmplitude(int row) {
+        return maxY - (row + 0.5) * (maxY - minY) / rows;
+    }
+
+    public double getSymbolPeriod() {
+        return symbolPeriod;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * @return Cuenta de la celda más visitada
+     */
+    public long getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * @return Muestras recibidas
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return Muestras fuera del rango de amplitud (se dibujan en el borde)
+     */
+    public long getClippedSamples() {
+        return clipped;
+    }
+}
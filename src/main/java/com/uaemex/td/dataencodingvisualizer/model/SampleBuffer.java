@@ -0,0 +1,143 @@
+package com.uaemex.td.dataencodingvisualizer.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Búfer columnar de muestras
+ *
+ * Guarda la señal en dos arreglos paralelos (x, y) en lugar de un objeto
+ * SignalData por muestra. Los generadores basados en plantillas copian
+ * bloques completos de niveles con System.arraycopy.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+public class SampleBuffer implements SampleSink {
+
+    private double[] x;
+    private double[] y;
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param capacity Número de muestras esperado
+     */
+    public SampleBuffer(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacidad inválida: " + capacity);
+        }
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+    }
+
+    @Override
+    public void accept(double x, double y) {
+        ensureCapacity(size + 1);
+        this.x[size] = x;
+        this.y[size] = y;
+        size++;
+    }
+
+    @Override
+    public void acceptBlock(double time, double[] offsets, double[] values) {
+        int count = values.length;
+        ensureCapacity(size + count);
+        System.arraycopy(values, 0, y, size, count);
+        for (int i = 0; i < count; i++) {
+            x[size++] = time + offsets[i];
+        }
+    }
+
+    /**
+     * Agrega bitCount bits muestreados uniformemente
+     * Los niveles se copian en bloque; el tiempo de la muestra i del bit b es
+     * (firstBitTime + b) + fractions[i], igual que al muestrear bit por bit.
+     *
+     * @param levels Niveles de las muestras (samplesPerBit por bit)
+     * @param offset Posición del primer nivel en levels
+     * @param bitCount Número de bits
+     * @param firstBitTime Tiempo del primer bit
+     * @param fractions Fracción de bit de cada muestra (i / samplesPerBit)
+     */
+    public void appendBits(double[] levels, int offset, int bitCount, double firstBitTime, double[] fractions) {
+        int samplesPerBit = fractions.length;
+        int count = bitCount * samplesPerBit;
+        ensureCapacity(size + count);
+        System.arraycopy(levels, offset, y, size, count);
+
+        double time = firstBitTime;
+        for (int b = 0; b < bitCount; b++) {
+            for (int i = 0; i < samplesPerBit; i++) {
+                x[size++] = time + fractions[i];
+            }
+            time++;
+        }
+    }
+
+    /**
+     * @return Número de muestras
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Tiempo de la muestra index
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return x[index];
+    }
+
+    /**
+     * @return Amplitud de la muestra index
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return y[index];
+    }
+
+    /**
+     * @return Copia de los tiempos
+     */
+    public double[] toXArray() {
+        return Arrays.copyOf(x, size);
+    }
+
+    /**
+     * @return Copia de las amplitudes
+     */
+    public double[] toYArray() {
+        return Arrays.copyOf(y, size);
+    }
+
+    /**
+     * Convierte el búfer en la lista de puntos que usa la gráfica
+     *
+     * @return Lista de SignalData en orden temporal
+     */
+    public List<SignalData> toSignalData() {
+        List<SignalData> data = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            data.add(new SignalData(x[i], y[i]));
+        }
+        return data;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > x.length) {
+            int capacity = Math.max(required, x.length + (x.length >> 1) + 16);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Índice " + index + " fuera de rango para " + size + " muestras");
+        }
+    }
+}
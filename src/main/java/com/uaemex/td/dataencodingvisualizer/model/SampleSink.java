@@ -0,0 +1,85 @@
+package com.uaemex.td.dataencodingvisualizer.model;
+
+import java.util.List;
+
+/**
+ * Destino de las muestras producidas por un generador
+ *
+ * Permite que un generador emita la señal punto por punto sin decidir
+ * cómo se almacena: en una lista de SignalData, en un diezmador para
+ * visualización, en un analizador, etc.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface SampleSink {
+
+    /**
+     * Recibe una muestra de la señal
+     *
+     * @param x Tiempo en segundos
+     * @param y Amplitud/voltaje
+     */
+    void accept(double x, double y);
+
+    /**
+     * Recibe un bloque de muestras consecutivas que empieza en time
+     * La muestra i está en x = time + offsets[i]. Los destinos columnares
+     * lo sobrescriben para copiar los valores en bloque.
+     *
+     * @param time Tiempo de inicio del bloque
+     * @param offsets Desplazamiento de cada muestra respecto a time
+     * @param values Amplitud de cada muestra (misma longitud que offsets)
+     */
+    default void acceptBlock(double time, double[] offsets, double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            accept(time + offsets[i], values[i]);
+        }
+    }
+
+    /**
+     * Crea un destino que agrega cada muestra a una lista como SignalData
+     *
+     * @param data Lista destino
+     * @return Destino de muestras
+     */
+    static SampleSink into(List<SignalData> data) {
+        return (x, y) -> data.add(new SignalData(x, y));
+    }
+
+    /**
+     * Crea un destino que solo reenvía las muestras con t0 ≤ x ≤ t1
+     *
+     * @param sink Destino de las muestras dentro del intervalo
+     * @param t0 Inicio del intervalo (inclusivo)
+     * @param t1 Fin del intervalo (inclusivo)
+     * @return Destino de muestras
+     */
+    static SampleSink clip(SampleSink sink, double t0, double t1) {
+        return (x, y) -> {
+            if (x >= t0 && x <= t1) {
+                sink.accept(x, y);
+            }
+        };
+    }
+
+    /**
+     * Crea un destino que escribe las muestras consecutivamente en un arreglo
+     * Permite que varios hilos llenen regiones disjuntas del mismo arreglo.
+     *
+     * @param target Arreglo destino
+     * @param offset Posición de la primera muestra
+     * @return Destino de muestras
+     */
+    static SampleSink into(SignalData[] target, int offset) {
+        return new SampleSink() {
+            private int index = offset;
+
+            @Override
+            public void accept(double x, double y) {
+                target[index++] = new SignalData(x, y);
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.uaemex.td.dataencodingvisualizer.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Diezmador min/max para visualizar señales muy largas
+ *
+ * Agrupa las muestras en bloques consecutivos y conserva solo el mínimo y el
+ * máximo de cada bloque. La envolvente resultante se ve igual que la señal
+ * completa a la resolución de la gráfica, pero la memoria usada depende solo
+ * del número de puntos a dibujar y no de la longitud de la señal.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+public class SignalDecimator implements SampleSink {
+
+    private final long samplesPerBucket;
+    private final int bucketCount;
+
+    private final double[] minX;
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+
+    private long count;  // Muestras recibidas
+
+    /**
+     * Constructor
+     *
+     * @param expectedSamples Número total de muestras que se van a recibir
+     * @param maxPoints Número máximo de puntos de salida (mínimo 2)
+     */
+    public SignalDecimator(long expectedSamples, int maxPoints) {
+        if (maxPoints < 2) {
+            throw new IllegalArgumentException("Se requieren al menos 2 puntos de salida");
+        }
+        long expected = Math.max(1, expectedSamples);
+
+        if (expected <= maxPoints) {
+            // Cabe completa: cada bloque contiene una sola muestra
+            this.samplesPerBucket = 1;
+            this.bucketCount = (int) expected;
+        } else {
+            // Dos puntos (mínimo y máximo) por bloque
+            int buckets = maxPoints / 2;
+            this.samplesPerBucket = (expected + buckets - 1) / buckets;
+            this.bucketCount = (int) ((expected + samplesPerBucket - 1) / samplesPerBucket);
+        }
+
+        this.minX = new double[bucketCount];
+        this.minY = new double[bucketCount];
+        this.maxX = new double[bucketCount];
+        this.maxY = new double[bucketCount];
+    }
+
+    @Override
+    public void accept(double x, double y) {
+        // Si llegan más muestras de las esperadas se acumulan en el último bloque
+        int bucket = (int) Math.min(count / samplesPerBucket, bucketCount - 1);
+        if (count % samplesPerBucket == 0 && count / samplesPerBucket < bucketCount) {
+            minX[bucket] = x; minY[bucket] = y;
+            maxX[bucket] = x; maxY[bucket] = y;
+        } else {
+            if (y < minY[bucket]) {
+                minX[bucket] = x; minY[bucket] = y;
+            }
+            if (y > maxY[bucket]) {
+                maxX[bucket] = x; maxY[bucket] = y;
+            }
+        }
+        count++;
+    }
+
+    /**
+     * Obtiene la vista diezmada de la señal
+     * Cada bloque aporta su mínimo y su máximo en orden temporal.
+     *
+     * @return Lista de puntos listos para graficar
+     */
+    public List<SignalData> toSignalData() {
+        int filled = (int) Math.min(bucketCount, (count + samplesPerBucket - 1) / samplesPerBucket);
+        List<SignalData> data = new ArrayList<>(filled * 2);
+
+        for (int b = 0; b < filled; b++) {
+            if (minX[b] == maxX[b]) {
+                data.add(new SignalData(minX[b], minY[b]));
+            } else if (minX[b] < maxX[b]) {
+                data.add(new SignalData(minX[b], minY[b]));
+                data.add(new SignalData(maxX[b], maxY[b]));
+            } else {
+                data.add(new SignalData(maxX[b], maxY[b]));
+                data.add(new SignalData(minX[b], minY[b]));
+            }
+        }
+        return data;
+    }
+
+    /**
+     * @return Número de muestras recibidas
+     */
+    public long getSampleCount() {
+        return count;
+    }
+
+    /**
+     * @return Número de muestras originales representadas por cada bloque
+     */
+    public long getSamplesPerBucket() {
+        return samplesPerBucket;
+    }
+}
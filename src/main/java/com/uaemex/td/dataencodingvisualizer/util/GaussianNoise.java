@@ -0,0 +1,219 @@
+package com.uaemex.td.dataencodingvisualizer.util;
+
+import com.uaemex.td.dataencodingvisualizer.model.SignalData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generador de ruido gaussiano reproducible (AWGN)
+ *
+ * Usa el método ziggurat de Marsaglia y Tsang con 128 capas: en el 98.8%
+ * de los casos una muestra cuesta un número aleatorio, una multiplicación
+ * y una comparación, sin logaritmos ni raíces (Box-Muller necesita ambos
+ * por cada par de muestras). Los bits aleatorios salen de un
+ * SplittableRandom con semilla, así que:
+ * - la misma semilla produce exactamente el mismo ruido
+ * - split() crea flujos independientes para hilos o bloques en paralelo
+ *   sin compartir estado ni sincronizar
+ *
+ * addAtEbN0 agrega ruido a una señal muestreada con la relación Eb/N0
+ * pedida, midiendo la energía por bit de la propia señal.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+public class GaussianNoise {
+
+    /** Inicio de la cola (x de la última capa) */
+    private static final double R = 3.442619855899;
+
+    /** Área de cada capa */
+    private static final double V = 9.91256303526217e-3;
+
+    private static final int LAYERS = 128;
+    private static final double M1 = 2147483648.0; // 2^31
+
+    private static final int[] KN = new int[LAYERS];    // Umbrales de aceptación inmediata
+    private static final double[] WN = new double[LAYERS]; // Ancho de cada capa / 2^31
+    private static final double[] FN = new double[LAYERS]; // Densidad en el borde de cada capa
+
+    static {
+        double dn = R;
+        double tn = dn;
+        double q = V / Math.exp(-0.5 * dn * dn);
+
+        KN[0] = (int) ((dn / q) * M1);
+        KN[1] = 0;
+        WN[0] = q / M1;
+        WN[LAYERS - 1] = dn / M1;
+        FN[0] = 1.0;
+        FN[LAYERS - 1] = Math.exp(-0.5 * dn * dn);
+
+        for (int i = LAYERS - 2; i >= 1; i--) {
+            dn = Math.sqrt(-2.0 * Math.log(V / dn + Math.exp(-0.5 * dn * dn)));
+            KN[i + 1] = (int) ((dn / tn) * M1);
+            tn = dn;
+            FN[i] = Math.exp(-0.5 * dn * dn);
+            WN[i] = dn / M1;
+        }
+    }
+
+    private final SplittableRandom random;
+
+    /**
+     * Constructor
+     *
+     * @param seed Semilla: la misma semilla produce el mismo ruido
+     */
+    public GaussianNoise(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private GaussianNoise(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Crea un flujo de ruido independiente de este
+     * Cada llamada avanza este generador, así que la secuencia de flujos
+     * también es reproducible.
+     *
+     * @return Nuevo generador
+     */
+    public GaussianNoise split() {
+        return new GaussianNoise(random.split());
+    }
+
+    /**
+     * @return Muestra normal estándar (media 0, desviación 1)
+     */
+    public double next() {
+        // Índice de capa y abscisa de bits distintos de la misma palabra
+        long bits = random.nextLong();
+        int layer = (int) bits & (LAYERS - 1);
+        int hz = (int) (bits >> 32);
+        if (Math.abs(hz) < KN[layer]) {
+            return hz * WN[layer];
+        }
+        return nextSlow(hz, layer);
+    }
+
+    /**
+     * Rechazo en el borde de una capa o muestra de la cola (|x| > R)
+     */
+    private double nextSlow(int hz, int layer) {
+        while (true) {
+            double x = hz * WN[layer];
+            if (layer == 0) {
+                // Cola: método de Marsaglia para x > R
+                double tail;
+                double y;
+                do {
+                    tail = -Math.log(1.0 - random.nextDouble()) / R;
+                    y = -Math.log(1.0 - random.nextDouble());
+                } while (y + y < tail * tail);
+                return hz > 0 ? R + tail : -R - tail;
+            }
+            if (FN[layer] + random.nextDouble() * (FN[layer - 1] - FN[layer]) < Math.exp(-0.5 * x * x)) {
+                return x;
+            }
+
+            long bits = random.nextLong();
+            layer = (int) bits & (LAYERS - 1);
+            hz = (int) (bits >> 32);
+            if (Math.abs(hz) < KN[layer]) {
+                return hz * WN[layer];
+            }
+        }
+    }
+
+    /**
+     * Llena un bloque con ruido de desviación sigma
+     *
+     * @param target Arreglo destino
+     * @param offset Posición inicial
+     * @param count Número de muestras
+     * @param sigma Desviación estándar
+     */
+    public void fill(double[] target, int offset, int count, double sigma) {
+        for (int i = offset; i < offset + count; i++) {
+            target[i] = sigma * next();
+        }
+    }
+
+    /**
+     * Suma ruido de desviación sigma a un bloque de muestras
+     *
+     * @param samples Señal (se modifica)
+     * @param offset Posición inicial
+     * @param count Número de muestras
+     * @param sigma Desviación estándar
+     */
+    public void add(double[] samples, int offset, int count, double sigma) {
+        for (int i = offset; i < offset + count; i++) {
+            samples[i] += sigma * next();
+        }
+    }
+
+    /**
+     * Desviación del ruido por muestra para una relación Eb/N0
+     * En tiempo discreto N0/2 es la varianza por muestra y Eb la suma de
+     * y² de las muestras de un bit, de modo que un correlador ve la misma
+     * relación señal a ruido que el sistema continuo.
+     *
+     * @param energyPerBit Energía por bit (suma de y² por bit)
+     * @param ebN0Db Relación Eb/N0 en dB
+     * @return Desviación estándar por muestra
+     */
+    public static double sigmaForEbN0(double energyPerBit, double ebN0Db) {
+        double ebN0 = Math.pow(10, ebN0Db / 10.0);
+        return Math.sqrt(energyPerBit / (2.0 * ebN0));
+    }
+
+    /**
+     * Suma ruido a una señal muestreada con la relación Eb/N0 indicada
+     * Eb se mide en la propia señal: energía total / bits transportados.
+     *
+     * @param samples Señal (se modifica)
+     * @param offset Posición inicial
+     * @param count Número de muestras
+     * @param bitCount Bits de información que transporta el bloque
+     * @param ebN0Db Relación Eb/N0 en dB
+     * @return Desviación estándar aplicada
+     */
+    public double addAtEbN0(double[] samples, int offset, int count, long bitCount, double ebN0Db) {
+        if (bitCount <= 0) {
+            throw new IllegalArgumentException("El número de bits debe ser positivo");
+        }
+        double energy = 0.0;
+        for (int i = offset; i < offset + count; i++) {
+            energy += samples[i] * samples[i];
+        }
+        double sigma = sigmaForEbN0(energy / bitCount, ebN0Db);
+        add(samples, offset, count, sigma);
+        return sigma;
+    }
+
+    /**
+     * Devuelve una copia ruidosa de una señal generada
+     *
+     * @param signal Señal original (no se modifica)
+     * @param bitCount Bits de información que transporta la señal
+     * @param ebN0Db Relación Eb/N0 en dB
+     * @return Señal con ruido, con los mismos tiempos
+     */
+    public List<SignalData> addAtEbN0(List<SignalData> signal, long bitCount, double ebN0Db) {
+        double[] samples = new double[signal.size()];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = signal.get(i).getY();
+        }
+        addAtEbN0(samples, 0, samples.length, bitCount, ebN0Db);
+
+        List<SignalData> noisy = new ArrayList<>(samples.length);
+        for (int i = 0; i < samples.length; i++) {
+            noisy.add(new SignalData(signal.get(i).getX(), samples[i]));
+        }
+        return noisy;
+    }
+}
@@ -0,0 +1,217 @@
+package com.uaemex.td.dataencodingvisualizer.util;
+
+/**
+ * Oscilador controlado numéricamente (NCO)
+ *
+ * La fase se guarda en un acumulador entero de 64 bits donde 2^64 equivale
+ * a una vuelta completa (2π). Cada muestra suma la palabra de frecuencia y
+ * el desbordamiento del long da el módulo 2π sin error, así que la fase no
+ * deriva aunque la señal sea arbitrariamente larga y saltar n muestras es
+ * una sola multiplicación.
+ *
+ * El seno se obtiene de una tabla de TABLE_SIZE valores más una corrección
+ * de Taylor con el residuo de fase: sin(a + d) = sin(a)cos(d) + cos(a)sin(d),
+ * con error menor a 1e-13 y sin llamadas a funciones trascendentes.
+ *
+ * Admite modulación por muestra: step(frequencyOffset) para FM y
+ * sin(phaseOffset) para PM.
+ *
+ * @author UAEMEX - Transmisión de Datos
+ * @version 1.0
+ */
+public class NumericallyControlledOscillator {
+
+    /** Bits de la fase que indexan la tabla */
+    private static final int TABLE_BITS = 10;
+    private static final int TABLE_SIZE = 1 << TABLE_BITS;
+    private static final int QUARTER = TABLE_SIZE / 4;
+
+    /** Bits de la fase por debajo del índice de la tabla */
+    private static final int RESIDUE_BITS = 64 - TABLE_BITS;
+    private static final long RESIDUE_MASK = (1L << RESIDUE_BITS) - 1;
+
+    /** Radianes por unidad del acumulador (2π / 2^64) */
+    private static final double RADIANS_PER_UNIT = 2 * Math.PI / 0x1p64;
+
+    /** sin(2π k / TABLE_SIZE) para k en [0, TABLE_SIZE + QUARTER): cos(a) = sin(a + π/2) */
+    private static final double[] SINE = new double[TABLE_SIZE + QUARTER];
+
+    static {
+        for (int k = 0; k < SINE.length; k++) {
+            SINE[k] = Math.sin(2 * Math.PI * k / TABLE_SIZE);
+        }
+    }
+
+    private final double sampleRate;
+    private double frequency;
+    private long frequencyWord;
+    private long phase;
+
+    /**
+     * Constructor
+     *
+     * @param frequency Frecuencia en Hz
+     * @param sampleRate Frecuencia de muestreo en muestras por segundo (debe ser > 0)
+     * @throws IllegalArgumentException si la frecuencia de muestreo no es positiva
+     */
+    public NumericallyControlledOscillator(double frequency, double sampleRate) {
+        if (!(sampleRate > 0)) {
+            throw new IllegalArgumentException("La frecuencia de muestreo debe ser positiva");
+        }
+        this.sampleRate = sampleRate;
+        setFrequency(frequency);
+    }
+
+    /**
+     * Convierte una fracción de vuelta en unidades del acumulador (módulo 2^64)
+     *
+     * @param cycles Vueltas (puede ser negativa o mayor que 1)
+     * @return Palabra de fase equivalente
+     */
+    public static long toPhaseWord(double cycles) {
+        double fraction = cycles - Math.floor(cycles);
+        // Centrar en [-0.5, 0.5) para que el producto quepa en un long
+        if (fraction >= 0.5) {
+            fraction -= 1.0;
+        }
+        return (long) (fraction * 0x1p64);
+    }
+
+    /**
+     * Seno de una fase del acumulador
+     *
+     * @param phase Fase en unidades de 2π / 2^64
+     * @return sin(phase)
+     */
+    public static double sin(long phase) {
+        int k = (int) (phase >>> RESIDUE_BITS);
+        double d = (phase & RESIDUE_MASK) * RADIANS_PER_UNIT;
+        double d2 = d * d;
+        double cosD = 1.0 - d2 * (0.5 - d2 / 24.0);
+        double sinD = d * (1.0 - d2 * (1.0 / 6.0 - d2 / 120.0));
+        return SINE[k] * cosD + SINE[k + QUARTER] * sinD;
+    }
+
+    /**
+     * Coseno de una fase del acumulador
+     *
+     * @param phase Fase en unidades de 2π / 2^64
+     * @return cos(phase)
+     */
+    public static double cos(long phase) {
+        return sin(phase + (1L << 62));
+    }
+
+    /**
+     * @return Seno de la fase actual
+     */
+    public double sin() {
+        return sin(phase);
+    }
+
+    /**
+     * Seno de la fase actual desplazada (modulación de fase)
+     *
+     * @param phaseOffset Desplazamiento en radianes
+     * @return sin(fase + phaseOffset)
+     */
+    public double sin(double phaseOffset) {
+        return sin(phase + toPhaseWord(phaseOffset / (2 * Math.PI)));
+    }
+
+    /**
+     * @return Coseno de la fase actual
+     */
+    public double cos() {
+        return cos(phase);
+    }
+
+    /**
+     * Avanza la fase una muestra a la frecuencia actual
+     */
+    public void step() {
+        phase += frequencyWord;
+    }
+
+    /**
+     * Avanza la fase una muestra a la frecuencia actual más frequencyOffset
+     * (modulación de frecuencia; el acumulador integra la fase exactamente)
+     *
+     * @param frequencyOffset Desviación instantánea en Hz
+     */
+    public void step(double frequencyOffset) {
+        phase += frequencyWord + toPhaseWord(frequencyOffset / sampleRate);
+    }
+
+    /**
+     * Avanza la fase samples muestras a la frecuencia actual
+     *
+     * @param samples Número de muestras (puede ser negativo)
+     */
+    public void skip(long samples) {
+        phase += frequencyWord * samples;
+    }
+
+    /**
+     * Devuelve el seno de la fase actual y avanza una muestra
+     *
+     * @return Muestra de la portadora
+     */
+    public double nextSin() {
+        double y = sin(phase);
+        phase += frequencyWord;
+        return y;
+    }
+
+    /**
+     * Establece la frecuencia del oscilador
+     *
+     * @param frequency Frecuencia en Hz (negativa gira en sentido contrario)
+     */
+    public void setFrequency(double frequency) {
+        this.frequency = frequency;
+        this.frequencyWord = toPhaseWord(frequency / sampleRate);
+    }
+
+    /**
+     * @return Frecuencia en Hz
+     */
+    public double getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * @return Frecuencia de muestreo en muestras por segundo
+     */
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * @return Fase actual en unidades de 2π / 2^64
+     */
+    public long getPhaseWord() {
+        return phase;
+    }
+
+    /**
+     * @param phase Fase en unidades de 2π / 2^64 (ver getPhaseWord)
+     */
+    public void setPhaseWord(long phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * @return Fase actual en radianes, en [0, 2π)
+     */
+    public double getPhase() {
+        return (phase >>> 11) * (2 * Math.PI / 0x1p53);
+    }
+
+    /**
+     * @param radians Fase en radianes
+     */
+    public void setPhase(double radians) {
+        this.phase = toPhaseWord(radians / (2 * Math.PI));
+    }
+}